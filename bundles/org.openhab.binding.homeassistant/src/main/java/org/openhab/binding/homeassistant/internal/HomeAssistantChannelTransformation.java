@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
  * Jinja2 template, providing the additional context and extensions required by Home Assistant
  *
  * @author Cody Cutrer - Initial contribution
+ * @author acfischer42 - Render simple JSON value templates in Java
  */
 @NonNullByDefault
 public class HomeAssistantChannelTransformation extends ChannelTransformation {
@@ -46,6 +47,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
+    private final @Nullable SimpleJsonValueTemplate simpleTemplate;
 
     public HomeAssistantChannelTransformation(HomeAssistantPythonBridge python, AbstractComponent<?> component,
             Value template, boolean command) {
@@ -71,6 +73,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
+        String source = command ? null : python.getTemplateSource(template);
+        this.simpleTemplate = source != null ? SimpleJsonValueTemplate.parse(source) : null;
     }
 
     @Override
@@ -97,6 +101,10 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        String result = renderSimpleTemplate(value);
+        if (result != null) {
+            return result;
+        }
         try {
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
@@ -108,6 +116,10 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value, Map<String, @Nullable Object> variables) {
+        String result = renderSimpleTemplate(value);
+        if (result != null) {
+            return result;
+        }
         try {
             return command ? python.renderCommandTemplate(template, value, variables)
                     : python.renderValueTemplate(template, value, defaultValue, variables);
@@ -117,4 +129,9 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
             return null;
         }
     }
+
+    private @Nullable String renderSimpleTemplate(Object value) {
+        SimpleJsonValueTemplate simpleTemplate = this.simpleTemplate;
+        return simpleTemplate != null && value instanceof String payload ? simpleTemplate.render(payload) : null;
+    }
 }
@@ -114,6 +114,17 @@ public class HomeAssistantPythonBridge {
         return newRawTemplateMeth.execute(template);
     }
 
+    /**
+     * @return the source of a template created by {@link #newRawTemplate(String)} or from a discovery config
+     */
+    public @Nullable String getTemplateSource(Value template) {
+        if (template.isNull() || !template.hasMember("template")) {
+            return null;
+        }
+        Value source = template.getMember("template");
+        return source.isString() ? source.asString() : null;
+    }
+
     public Value newCommandTemplate(Value template) {
         return newCommandTemplateMeth.execute(template);
     }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Evaluates value templates of the form <code>{{ value_json.a['b'][0] }}</code> in Java, so that the most common
+ * templates of discovery configs don't need to go through Python.
+ *
+ * {@link #render(String)} returns <code>null</code> whenever the result could differ from the one of Home Assistant,
+ * e.g. if the payload is no valid JSON, the path does not exist or the value is no scalar. The template must then be
+ * rendered by Python, which also takes care of error handling and logging.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+class SimpleJsonValueTemplate {
+    private static final Pattern TEMPLATE_PATTERN = Pattern.compile(
+            "\\{\\{\\s*value_json((?:\\.[A-Za-z_][A-Za-z0-9_]*|\\[\\s*(?:'[^'\\\\]*'|\"[^\"\\\\]*\"|\\d+)\\s*\\])+)\\s*\\}\\}");
+    private static final Pattern SEGMENT_PATTERN = Pattern
+            .compile("\\.([A-Za-z_][A-Za-z0-9_]*)|\\[\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\"|(\\d+))\\s*\\]");
+    // Jinja resolves value_json.name as attribute of the Python dict first
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+    private static final TypeAdapter<JsonElement> JSON_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    /** Path of the value, String elements are attribute or key lookups, Integer elements list indexes */
+    private final List<Object> path;
+
+    private SimpleJsonValueTemplate(List<Object> path) {
+        this.path = path;
+    }
+
+    /**
+     * @param template the source of the template
+     * @return the Java template or <code>null</code> if the template is not a simple JSON value lookup
+     */
+    static @Nullable SimpleJsonValueTemplate parse(String template) {
+        Matcher matcher = TEMPLATE_PATTERN.matcher(template.strip());
+        if (!matcher.matches()) {
+            return null;
+        }
+        List<Object> path = new ArrayList<>();
+        Matcher segment = SEGMENT_PATTERN.matcher(matcher.group(1));
+        while (segment.find()) {
+            String attribute = segment.group(1);
+            if (attribute != null) {
+                if (attribute.startsWith("_") || DICT_ATTRIBUTES.contains(attribute)) {
+                    return null;
+                }
+                path.add(attribute);
+            } else if (segment.group(4) != null) {
+                try {
+                    path.add(Integer.valueOf(segment.group(4)));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            } else {
+                String key = segment.group(2);
+                path.add(key != null ? key : segment.group(3));
+            }
+        }
+        return new SimpleJsonValueTemplate(path);
+    }
+
+    /**
+     * @param payload the received payload
+     * @return the rendered value or <code>null</code> if the template must be rendered by Python
+     */
+    @Nullable
+    String render(String payload) {
+        JsonElement element;
+        try (JsonReader reader = new JsonReader(new StringReader(payload))) {
+            element = JSON_ADAPTER.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                return null;
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return null;
+        }
+
+        for (Object segment : path) {
+            if (segment instanceof Integer index) {
+                if (!(element instanceof JsonArray array) || index >= array.size()) {
+                    return null;
+                }
+                element = array.get(index);
+            } else {
+                if (!(element instanceof JsonObject object) || !object.has((String) segment)) {
+                    return null;
+                }
+                element = object.get((String) segment);
+            }
+        }
+        return toPythonString(element);
+    }
+
+    /**
+     * @return the string Python's <code>str()</code> returns for the value or <code>null</code> if the value is not a
+     *         scalar or can't be formatted the same way in Java
+     */
+    private static @Nullable String toPythonString(JsonElement element) {
+        if (element.isJsonNull()) {
+            return "None";
+        }
+        if (!(element instanceof JsonPrimitive primitive)) {
+            return null;
+        }
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean() ? "True" : "False";
+        } else if (primitive.isString()) {
+            return strip(primitive.getAsString());
+        }
+
+        String number = primitive.getAsString();
+        try {
+            if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+                return Long.toString(Long.parseLong(number));
+            }
+            double value = Double.parseDouble(number);
+            // Java and Python only use the same shortest representation in positional notation for this range
+            double abs = Math.abs(value);
+            if (value == 0 || (abs >= 1e-3 && abs < 1e7)) {
+                return Double.toString(value);
+            }
+        } catch (NumberFormatException e) {
+            // e.g. integers exceeding a long, let Python handle them
+        }
+        return null;
+    }
+
+    /**
+     * Strips whitespace like Python's <code>str.strip()</code>, which Home Assistant applies to rendered templates
+     */
+    private static String strip(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isPythonWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isPythonWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+
+    private static boolean isPythonWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+    }
+}
@@ -13,6 +13,8 @@
 package org.openhab.binding.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -43,9 +45,12 @@ import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.StorageService;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.type.ThingType;
+import org.openhab.core.util.HexUtils;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -59,6 +64,7 @@ import org.slf4j.LoggerFactory;
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
  *
  * @author David Graeff - Initial contribution
+ * @author acfischer42 - Skip unchanged discovery configs, also after a restart
  */
 @Component(service = DiscoveryService.class, configurationPid = "org.openhab.binding.homeassistant", property = Constants.SERVICE_PID
         + "=org.openhab.binding.homeassistant")
@@ -70,6 +76,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, Set<HaID>> componentsPerThingID = new HashMap<>();
     protected final Map<String, ThingUID> thingIDPerTopic = new HashMap<>();
     protected final Map<String, DiscoveryResult> allResults = new HashMap<>();
+    // Digest of the last processed config per topic, retained configs are received again on every reconnect
+    private final Map<String, String> digestPerTopic = new HashMap<>();
+    private final Map<String, Long> processingNanosPerComponent = new HashMap<>();
+    private int unchangedConfigs = 0;
+    private int storedConfigs = 0;
+    // Processed configs per topic, kept across restarts
+    private final Storage<ProcessedConfig> processedConfigs;
     private Set<ThingUID> dirtyResults = new HashSet<>();
     private final Object discoveryStateLock = new Object();
 
@@ -79,6 +92,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     static final String BASE_TOPIC = "homeassistant";
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
+    static final String STORAGE_NAME = "org.openhab.binding.homeassistant.discovery";
     private volatile long lastEventTime = 0;
     private static final long DISCOVERY_TIMEOUT_MS = 2000;
 
@@ -90,10 +104,11 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
     @Activate
     public HomeAssistantDiscovery(@Nullable Map<String, Object> properties,
-            @Reference HomeAssistantPythonBridge python) {
+            @Reference HomeAssistantPythonBridge python, @Reference StorageService storageService) {
         super(null, 3, true, BASE_TOPIC + "/#");
         configuration = (new Configuration(properties)).as(HomeAssistantConfiguration.class);
         this.python = python;
+        this.processedConfigs = storageService.getStorage(STORAGE_NAME, ProcessedConfig.class.getClassLoader());
     }
 
     @Reference
@@ -147,25 +162,43 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
         HaID haID = new HaID(topic);
+        String digest = digest(payload);
+        synchronized (discoveryStateLock) {
+            if (thingIDPerTopic.containsKey(topic) && digest.equals(digestPerTopic.get(topic))) {
+                unchangedConfigs++;
+                return;
+            }
+        }
 
+        long start = System.nanoTime();
         try {
-            AbstractComponentConfiguration config = AbstractComponentConfiguration.create(python, haID.component,
-                    new String(payload, StandardCharsets.UTF_8));
+            // An unchanged config processed before a restart is taken from the storage
+            ProcessedConfig processed = processedConfigs.get(topic);
+            boolean stored = processed != null && digest.equals(processed.digest);
+            if (processed == null || !stored) {
+                processed = process(haID, digest, payload);
+                processedConfigs.put(topic, processed);
+            }
 
-            final String thingID = config.getThingId(haID.objectID);
+            final String thingID = processed.thingID;
             final ThingUID thingUID = new ThingUID(HomeAssistantBindingConstants.HOMEASSISTANT_DEVICE_THING, bridgeUID,
                     thingID);
 
             // Build properties and DiscoveryResult outside the lock
-            Map<String, Object> properties = new HashMap<>();
-            properties = config.appendToProperties(properties);
+            Map<String, Object> properties = new HashMap<>(processed.properties);
             properties.put("deviceId", thingID);
 
-            DiscoveryResult result = buildResult(thingID, thingUID, config.getThingName(), haID, properties, bridgeUID);
+            DiscoveryResult result = buildResult(thingID, thingUID, processed.thingName, haID, properties, bridgeUID);
 
             // Now only mutate shared state under the lock
             synchronized (discoveryStateLock) {
                 thingIDPerTopic.put(topic, thingUID);
+                digestPerTopic.put(topic, digest);
+                if (stored) {
+                    storedConfigs++;
+                } else {
+                    processingNanosPerComponent.merge(haID.component, System.nanoTime() - start, Long::sum);
+                }
                 applyResult(thingID, haID, result);
             }
         } catch (ConfigurationException e) {
@@ -176,18 +209,53 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         }
     }
 
+    private ProcessedConfig process(HaID haID, String digest, byte[] payload) {
+        AbstractComponentConfiguration config = AbstractComponentConfiguration.create(python, haID.component,
+                new String(payload, StandardCharsets.UTF_8));
+        Map<String, String> properties = new HashMap<>();
+        config.appendToProperties(new HashMap<>()).forEach((key, value) -> properties.put(key, value.toString()));
+        return new ProcessedConfig(digest, config.getThingId(haID.objectID), config.getThingName(), properties);
+    }
+
+    private static String digest(byte[] payload) {
+        try {
+            return HexUtils.bytesToHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     protected void startScan() {
+        forgetProcessedConfigs();
         super.startScan();
         triggerDeviceDiscovery();
     }
 
     @Override
     protected void startBackgroundDiscovery() {
+        forgetProcessedConfigs();
         super.startBackgroundDiscovery();
         triggerDeviceDiscovery();
     }
 
+    @Override
+    protected void stopBackgroundDiscovery() {
+        super.stopBackgroundDiscovery();
+        forgetProcessedConfigs();
+    }
+
+    /**
+     * Results might have been removed from the inbox, so all configs received from now on are published again.
+     * Unchanged configs are still taken from the storage instead of being processed again.
+     */
+    private void forgetProcessedConfigs() {
+        synchronized (discoveryStateLock) {
+            digestPerTopic.clear();
+        }
+    }
+
     private void triggerDeviceDiscovery() {
         if (!configuration.status) {
             return;
@@ -270,6 +338,15 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         synchronized (discoveryStateLock) {
             toPublish = dirtyResults;
             dirtyResults = new HashSet<>();
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "Processed discovery configs, skipped {} unchanged ones, took {} from storage, time per component in ms: {}",
+                        unchangedConfigs, storedConfigs, processingNanosPerComponent.entrySet().stream()
+                                .map(e -> e.getKey() + "=" + TimeUnit.NANOSECONDS.toMillis(e.getValue())).toList());
+            }
+            unchangedConfigs = 0;
+            storedConfigs = 0;
+            processingNanosPerComponent.clear();
         }
         for (ThingUID uid : toPublish) {
             DiscoveryResult result = allResults.get(uid.toString());
@@ -291,7 +368,9 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         // Step 1: remove the topic mapping (under lock)
         synchronized (discoveryStateLock) {
             thingUID = thingIDPerTopic.remove(topic);
+            digestPerTopic.remove(topic);
         }
+        processedConfigs.remove(topic);
         if (thingUID == null) {
             return;
         }
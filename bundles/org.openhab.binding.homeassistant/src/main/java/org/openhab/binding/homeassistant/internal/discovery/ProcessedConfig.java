@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal.discovery;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The part of a discovery config that is needed to build a discovery result, stored per config topic so that an
+ * unchanged config does not need to be processed again after a restart.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class ProcessedConfig {
+    /** SHA-256 digest of the config payload */
+    public final String digest;
+    public final String thingID;
+    public final String thingName;
+    /** Device properties of the discovery result */
+    public final Map<String, String> properties;
+
+    public ProcessedConfig(String digest, String thingID, String thingName, Map<String, String> properties) {
+        this.digest = digest;
+        this.thingID = thingID;
+        this.thingName = thingName;
+        this.properties = properties;
+    }
+}
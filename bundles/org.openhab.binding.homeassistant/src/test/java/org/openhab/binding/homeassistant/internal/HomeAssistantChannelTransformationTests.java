@@ -13,12 +13,16 @@
 package org.openhab.binding.homeassistant.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.graalvm.polyglot.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -108,6 +112,28 @@ public class HomeAssistantChannelTransformationTests extends AbstractHomeAssista
                 is("off"));
     }
 
+    @Test
+    public void testSimpleJsonValueTemplatesMatchPython() {
+        List<String> templates = List.of("{{ value_json.val }}", "{{value_json['val']}}", "{{ value_json.a.b[1] }}",
+                "{{ value_json[\"a\"][\"b\"][0] }}");
+        List<String> payloads = List.of("{\"val\": \"  abc \"}", "{\"val\": 21.50}", "{\"val\": -0}",
+                "{\"val\": 1e3}", "{\"val\": 1e20}", "{\"val\": 123456789012345678901234567890}",
+                "{\"val\": true}", "{\"val\": null}", "{\"val\": [1, 2]}", "{\"a\": {\"b\": [false, 0.5]}}",
+                "{\"values\": 1}", "{\"val\": 1, \"val\": 2}", "{val: 1}", "[1]", "abc", "");
+
+        assertThat(SimpleJsonValueTemplate.parse("{{ value_json.values }}"), is(nullValue()));
+        assertThat(SimpleJsonValueTemplate.parse("{{ value_json.val | int }}"), is(nullValue()));
+        for (String template : templates) {
+            assertThat(SimpleJsonValueTemplate.parse(template), is(notNullValue()));
+            Value pythonTemplate = PYTHON.newValueTemplate(PYTHON.newRawTemplate(template));
+            for (String payload : payloads) {
+                String expected = PYTHON.renderValueTemplate(pythonTemplate, payload,
+                        HomeAssistantChannelTransformation.PAYLOAD_SENTINEL_DEFAULT);
+                assertThat(template + " with " + payload, transform(template, payload, "default"), is(expected));
+            }
+        }
+    }
+
     protected @Nullable Object transform(String template, Object value) {
         return new HomeAssistantChannelTransformation(PYTHON, component, PYTHON.newRawTemplate(template), false)
                 .transform(value);
@@ -15,7 +15,9 @@ package org.openhab.binding.homeassistant.internal.discovery;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,10 +36,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.binding.homeassistant.internal.AbstractHomeAssistantTests;
 import org.openhab.binding.homeassistant.internal.HandlerConfiguration;
 import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge;
+import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryService;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.core.config.discovery.DiscoveryListener;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.test.storage.VolatileStorageService;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
@@ -51,11 +55,16 @@ import org.openhab.core.thing.ThingUID;
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
 public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
+    private static final String CLIMATE_TOPIC = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+
+    private final VolatileStorageService storageService = new VolatileStorageService();
+    private @NonNullByDefault({}) HomeAssistantPythonBridge python;
     private @NonNullByDefault({}) HomeAssistantDiscovery discovery;
 
     @BeforeEach
     public void beforeEach() {
-        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, PYTHON);
+        python = spy(PYTHON);
+        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, python, storageService);
     }
 
     @Test
@@ -184,11 +193,102 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
     }
 
+    @Test
+    public void testResultsPublishedAgainAfterBackgroundDiscoveryRestart() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection,
+                "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertThat(discoveryListener.getDiscoveryResults().size(), is(1));
+
+        // When background discovery is restarted, older results are removed and the retained config is received again
+        discovery.stopBackgroundDiscovery();
+        discovery.startBackgroundDiscovery();
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.receivedMessage(HA_UID, bridgeConnection,
+                "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+
+        // Then the thing is discovered again
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        assertThat(discoveryResults.get(0).getLabel(), is("th1"));
+    }
+
+    @Test
+    public void testUnchangedConfigIsProcessedOnce() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection, CLIMATE_TOPIC,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        discovery.receivedMessage(HA_UID, bridgeConnection, CLIMATE_TOPIC,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertThat(discoveryListener.getDiscoveryResults().size(), is(1));
+        verify(python, times(1)).processDiscoveryConfig(eq("climate"), anyString());
+    }
+
+    @Test
+    public void testUnchangedConfigIsTakenFromStorageAfterRestart() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection, CLIMATE_TOPIC,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        discoveryListener.getDiscoveryResults();
+
+        // When the discovery is created again with the same storage and receives the retained config
+        HomeAssistantPythonBridge restartedPython = spy(PYTHON);
+        HomeAssistantDiscovery restartedDiscovery = new TestHomeAssistantDiscovery(channelTypeProvider,
+                restartedPython, storageService);
+        restartedDiscovery.addDiscoveryListener(discoveryListener);
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        restartedDiscovery.receivedMessage(HA_UID, bridgeConnection, CLIMATE_TOPIC,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+
+        // Then the thing is discovered without processing the config
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        var result = discoveryResults.get(0);
+        assertThat(result.getLabel(), is("th1"));
+        assertThat(result.getProperties().get(Thing.PROPERTY_VENDOR), is("TuYa"));
+        assertThat((List<String>) result.getProperties().get(HandlerConfiguration.PROPERTY_TOPICS),
+                hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
+        verify(restartedPython, never()).processDiscoveryConfig(anyString(), anyString());
+
+        // A changed config is processed again
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        restartedDiscovery.receivedMessage(HA_UID, bridgeConnection, CLIMATE_TOPIC,
+                (new String(getResourceAsByteArray("component/configTS0601ClimateThermostat.json"),
+                        StandardCharsets.UTF_8) + " ").getBytes(StandardCharsets.UTF_8));
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        verify(restartedPython, times(1)).processDiscoveryConfig(eq("climate"), anyString());
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
-        public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider, HomeAssistantPythonBridge python) {
-            super(null, python);
+        private final MQTTTopicDiscoveryService topicDiscoveryService = mock(MQTTTopicDiscoveryService.class);
+
+        public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider, HomeAssistantPythonBridge python,
+                VolatileStorageService storageService) {
+            super(null, python, storageService);
             this.typeProvider = typeProvider;
         }
+
+        @Override
+        protected MQTTTopicDiscoveryService getDiscoveryService() {
+            return topicDiscoveryService;
+        }
     }
 
     private static class LatchDiscoveryListener implements DiscoveryListener {
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
  * The {@link HttpThingConfig} class contains fields mapping thing configuration parameters.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author acfischer42 - Skipping of unchanged content
  */
 @NonNullByDefault
 public class HttpThingConfig {
@@ -52,6 +53,7 @@ public class HttpThingConfig {
 
     public boolean ignoreSSLErrors = false;
     public boolean strictErrorHandling = false;
+    public boolean skipUnchanged = false;
 
     // ArrayList is required as implementation because list may be modified later
     public ArrayList<String> headers = new ArrayList<>();
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link HttpNotModifiedException} is an exception after a conditional request found the content unchanged
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class HttpNotModifiedException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public HttpNotModifiedException() {
+    }
+
+    public HttpNotModifiedException(String message) {
+        super(message);
+    }
+}
@@ -15,8 +15,10 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -25,10 +27,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
@@ -41,6 +45,7 @@ import org.slf4j.LoggerFactory;
  * channels
  *
  * @author Jan N. Klug - Initial contribution
+ * @author acfischer42 - Conditional requests and skipping of unchanged content
  */
 @NonNullByDefault
 public class RefreshingUrlCache {
@@ -59,9 +64,16 @@ public class RefreshingUrlCache {
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
     private final boolean refreshAfterCommand;
+    private final boolean skipUnchanged;
 
     private @Nullable ScheduledFuture<?> future;
     private @Nullable ChannelHandlerContent lastContent;
+    private @Nullable String eTag;
+    private @Nullable String lastModified;
+
+    private final AtomicLong responseCount = new AtomicLong();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -82,6 +94,7 @@ public class RefreshingUrlCache {
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
         this.refreshAfterCommand = refreshAfterCommand;
+        this.skipUnchanged = thingConfig.skipUnchanged;
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -102,6 +115,10 @@ public class RefreshingUrlCache {
             future.cancel(true);
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
+        if (skipUnchanged) {
+            logger.debug("URL '{}': {} responses, {} not modified, {} unchanged", url, responseCount.get(),
+                    notModifiedCount.get(), unchangedCount.get());
+        }
     }
 
     private void refresh() {
@@ -128,11 +145,27 @@ public class RefreshingUrlCache {
 
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
+                if (skipUnchanged && httpMethod == HttpMethod.GET) {
+                    String eTag = this.eTag;
+                    if (eTag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    }
+                    String lastModified = this.lastModified;
+                    if (lastModified != null) {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                    }
+                }
                 headers.forEach(request::header);
 
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
+                HttpResponseListener responseListener = new HttpResponseListener(responseContentFuture,
+                        fallbackEncoding, bufferSize, httpStatusListener);
                 responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
+                    if (t instanceof HttpNotModifiedException) {
+                        // the server confirmed that the last content is still valid
+                        notModifiedCount.incrementAndGet();
+                        return lastContent;
+                    } else if (t instanceof HttpAuthException) {
                         if (isRetry || !httpClient.reAuth(uri)) {
                             logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
                             httpStatusListener.onHttpError("Authentication failed");
@@ -141,14 +174,13 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(content, responseListener));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                request.send(responseListener);
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -170,7 +202,29 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
+    private void processResult(@Nullable ChannelHandlerContent content, HttpResponseListener responseListener) {
+        if (skipUnchanged) {
+            if (content == null) {
+                // request the full content after a failure, so that the consumers are updated again
+                eTag = null;
+                lastModified = null;
+            } else {
+                responseCount.incrementAndGet();
+                ChannelHandlerContent lastContent = this.lastContent;
+                if (content != lastContent) {
+                    eTag = responseListener.getETag();
+                    lastModified = responseListener.getLastModified();
+                }
+                if (lastContent != null && isSameContent(content, lastContent)) {
+                    if (content != lastContent) {
+                        unchangedCount.incrementAndGet();
+                    }
+                    logger.trace("Content of URL '{}' unchanged ({} responses, {} not modified, {} unchanged)", url,
+                            responseCount.get(), notModifiedCount.get(), unchangedCount.get());
+                    return;
+                }
+            }
+        }
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
@@ -182,4 +236,9 @@ public class RefreshingUrlCache {
         }
         lastContent = content;
     }
+
+    private static boolean isSameContent(ChannelHandlerContent content, ChannelHandlerContent lastContent) {
+        return content == lastContent || (Arrays.equals(content.getRawContent(), lastContent.getRawContent())
+                && Objects.equals(content.getMediaType(), lastContent.getMediaType()));
+    }
 }
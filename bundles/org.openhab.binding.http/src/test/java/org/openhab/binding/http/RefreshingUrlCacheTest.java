@@ -13,7 +13,10 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -52,6 +55,7 @@ import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
  * The {@link RefreshingUrlCacheTest} implements tests for the {@link RefreshingUrlCache}
  *
  * @author Jan N. Klug - Initial contribution
+ * @author acfischer42 - Tests for skipping unchanged content
  */
 @NonNullByDefault
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -245,6 +249,61 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testNoUpdateOnUnchangedContentWhenSkipping() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // verify we get at least three responses in 4s
+        verify(statusListener, timeout(4000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // assert only the first content is passed to the consumers
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testUpdateOnChangedContentWhenSkipping() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse()
+                .withBody("{{randomValue length=16 type='ALPHANUMERIC'}}").withTransformers("response-template")));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 3));
+        urlCache.stop();
+
+        assertEquals(contentWrappers.size(), contentWrappers.stream().map(Objects::requireNonNull)
+                .map(ChannelHandlerContent::getAsString).distinct().count());
+    }
+
+    @Test
+    public void testNotModifiedIsUnchangedContentWhenSkipping() {
+        String eTag = "\"v1\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // verify we get at least three responses in 4s
+        verify(statusListener, timeout(4000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // assert the following requests are conditional and only the first content is passed to the consumers
+        verify(statusListener, never()).onHttpError(any());
+        wireMockServer.verify(moreThanOrExactly(2),
+                getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(eTag)));
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
@@ -15,10 +15,11 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -52,6 +53,7 @@ import io.calimero.cemi.CemiTData;
 import io.calimero.datapoint.CommandDP;
 import io.calimero.datapoint.Datapoint;
 import io.calimero.device.ProcessCommunicationResponder;
+import io.calimero.link.KNXLinkClosedException;
 import io.calimero.link.KNXNetworkLink;
 import io.calimero.link.NetworkLinkListener;
 import io.calimero.mgmt.Destination;
@@ -71,6 +73,7 @@ import io.calimero.secure.Security;
  * KNX Client which encapsulates the communication with the KNX bus via the calimero library.
  *
  * @author Simon Kaufmann - initial contribution and API.
+ * @author acfischer42 - Prioritized read queue
  *
  */
 @NonNullByDefault
@@ -108,7 +111,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> connectJob;
 
     private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // ordered by priority, then in the order the reads have been queued
+    private final PriorityBlockingQueue<ReadDatapoint> readDatapoints = new PriorityBlockingQueue<>(11,
+            Comparator.comparing(ReadDatapoint::getPriority).thenComparingLong(ReadDatapoint::getSequence));
+    private long readSequence = 0;
+    // start of the startup reads in nanoseconds, 0 if there are no startup reads pending
+    private long startupReadsStarted = 0;
+    private int startupReadsCompleted = 0;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -180,6 +189,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     protected abstract KNXNetworkLink establishConnection() throws KNXException, InterruptedException;
 
+    // package-private to allow replacing the process communicator in tests
+    ProcessCommunicator createProcessCommunicator(KNXNetworkLink link, SecureApplicationLayer sal)
+            throws KNXLinkClosedException {
+        final boolean useGoDiagnostics = true;
+        return new ProcessCommunicatorImpl(link, sal, useGoDiagnostics);
+    }
+
     private synchronized boolean connectIfNotAutomatic() {
         if (!isConnected()) {
             return connectJob == null && connect();
@@ -243,8 +259,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             deviceInfoClient = new DeviceInfoClientImpl(managementClient);
 
             // ProcessCommunicator provides main KNX communication (Calimero).
-            final boolean useGoDiagnostics = true;
-            ProcessCommunicator processCommunicator = new ProcessCommunicatorImpl(link, sal, useGoDiagnostics);
+            ProcessCommunicator processCommunicator = createProcessCommunicator(link, sal);
             processCommunicator.responseTimeout(Duration.ofSeconds(responseTimeout));
             processCommunicator.addProcessListener(processListener);
             this.processCommunicator = processCommunicator;
@@ -312,7 +327,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmpLink != null) {
             tmpLink.removeLinkListener(this);
         }
-        readDatapoints.clear();
+        synchronized (this) {
+            readDatapoints.clear();
+            startupReadsStarted = 0;
+        }
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -366,7 +384,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     // datapoint is null at end of the list, warning is misleading
     @SuppressWarnings("null")
-    private void readNextQueuedDatapoint() {
+    void readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
         }
@@ -380,18 +398,28 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
                 logger.debug("outgoing secure communication not implemented, explicit read from GA '{}' skipped",
                         datapoint.getDatapoint().getMainAddress());
+                startupReadCompleted(datapoint);
                 return;
             }
 
             datapoint.incrementRetries();
+            boolean retry = false;
             try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+                logger.trace("Sending a Group Read Request telegram for {} ({} priority, {} more reads queued)",
+                        datapoint.getDatapoint().getMainAddress(), datapoint.getPriority(), readDatapoints.size());
+                long start = System.nanoTime();
                 processCommunicator.read(datapoint.getDatapoint());
+                long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                logger.trace("Group Read Request for {} answered after {} ms",
+                        datapoint.getDatapoint().getMainAddress(), millis);
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    retry = true;
+                    synchronized (this) {
+                        enqueue(datapoint);
+                    }
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -407,6 +435,29 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
                 logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
                         e.getMessage());
             }
+            if (!retry) {
+                startupReadCompleted(datapoint);
+            }
+        }
+    }
+
+    /**
+     * Logs the time it took until all reads queued at startup have been sent, which is the time until all states are
+     * known. A read triggered by a REFRESH command may replace a queued startup read, so it can complete the startup
+     * reads as well.
+     */
+    private synchronized void startupReadCompleted(ReadDatapoint datapoint) {
+        if (startupReadsStarted == 0 || datapoint.getPriority() == ReadPriority.PERIODIC) {
+            return;
+        }
+        if (datapoint.getPriority() == ReadPriority.STARTUP) {
+            startupReadsCompleted++;
+        }
+        if (readDatapoints.stream().noneMatch(queued -> queued.getPriority() == ReadPriority.STARTUP)) {
+            logger.debug("Bridge {} completed {} startup reads in {} ms, {} periodic reads queued", thingUID,
+                    startupReadsCompleted, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startupReadsStarted),
+                    readDatapoints.size());
+            startupReadsStarted = 0;
         }
     }
 
@@ -509,15 +560,31 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
         synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
+            // only one read per group address is queued, a read of higher priority replaces a queued one
+            for (ReadDatapoint queued : readDatapoints) {
+                if (queued.getDatapoint().getMainAddress().equals(datapoint.getMainAddress())) {
+                    if (queued.getPriority().compareTo(priority) <= 0) {
+                        return;
+                    }
+                    readDatapoints.remove(queued);
+                    break;
+                }
+            }
+            if (priority == ReadPriority.STARTUP && startupReadsStarted == 0) {
+                startupReadsStarted = System.nanoTime();
+                startupReadsCompleted = 0;
             }
+            enqueue(new ReadDatapoint(datapoint, readRetriesLimit, priority));
         }
     }
 
+    private void enqueue(ReadDatapoint datapoint) {
+        datapoint.setSequence(readSequence++);
+        readDatapoints.add(datapoint);
+    }
+
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
         groupAddressListeners.add(listener);
@@ -77,9 +77,13 @@ public interface KNXClient {
     /**
      * Schedule the given data point for asynchronous reading.
      *
+     * Reads are sent in the order of their priority. If a read of the same group address is already queued, only the
+     * one with the higher priority is kept.
+     *
      * @param datapoint the datapoint
+     * @param priority the priority of the read
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
 
     /**
      * Write a command to the KNX bus.
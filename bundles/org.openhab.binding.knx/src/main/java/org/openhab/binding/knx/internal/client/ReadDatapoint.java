@@ -21,6 +21,7 @@ import io.calimero.datapoint.Datapoint;
  * Information about a data point which is queued to be read from the KNX bus.
  *
  * @author Karel Goderis - Initial contribution
+ * @author acfischer42 - Add read priority
  */
 @NonNullByDefault
 public class ReadDatapoint {
@@ -28,11 +29,14 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private final ReadPriority priority;
+    private long sequence;
 
-    public ReadDatapoint(Datapoint datapoint, int limit) {
+    public ReadDatapoint(Datapoint datapoint, int limit, ReadPriority priority) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.priority = priority;
     }
 
     public Datapoint getDatapoint() {
@@ -51,6 +55,21 @@ public class ReadDatapoint {
         return limit;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return the position in the read queue among data points of the same priority
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
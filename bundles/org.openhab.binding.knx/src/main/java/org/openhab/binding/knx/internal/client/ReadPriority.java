@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Priority of a queued read request, in the order in which the requests are sent to the KNX bus.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public enum ReadPriority {
+    /** Read triggered by a REFRESH command */
+    REFRESH,
+    /** Initial read after a channel has been linked or the thing has been initialized */
+    STARTUP,
+    /** Read repeated every read interval */
+    PERIODIC
+}
@@ -13,11 +13,14 @@
 package org.openhab.binding.knx.internal.dpt;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
@@ -45,6 +48,7 @@ import io.calimero.dptxlator.DPTXlatorString;
  * Parts of this code are based on the openHAB KNXCoreTypeMapper by Kai Kreuzer et al.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author acfischer42 - Cache parsed DPT ids
  */
 @NonNullByDefault
 public class DPTUtil {
@@ -53,6 +57,10 @@ public class DPTUtil {
     // DPT: "123.001", 1-3 digits main type (no leading zero), optional subtype 3-4 digits (leading zeros allowed)
     public static final Pattern DPT_PATTERN = Pattern.compile("^(?<main>[1-9][0-9]{0,2})(?:\\.(?<sub>\\d{3,5}))?$");
 
+    // parsed DPT ids, the configured DPTs are parsed again for every telegram
+    private static final int MAX_PARSED_DPT_IDS = 1024;
+    private static final Map<String, Optional<DptId>> PARSED_DPT_IDS = new ConcurrentHashMap<>();
+
     // used to map vendor-specific data to standard DPT
     public static final Map<String, String> NORMALIZED_DPT = Map.of(//
             "232.60000", "232.600", "251.60600", "251.600");
@@ -112,6 +120,31 @@ public class DPTUtil {
         // prevent instantiation
     }
 
+    /**
+     * Main and sub number of a DPT, the sub number is empty if the DPT has none
+     */
+    public record DptId(String main, String sub) {
+    }
+
+    /**
+     * parse the main and sub number of the given DPT
+     *
+     * @param dptId the datapoint type id
+     * @return the parsed DPT or <code>null</code> if the DPT is invalid
+     */
+    public static @Nullable DptId parseDptId(String dptId) {
+        Optional<DptId> parsed = PARSED_DPT_IDS.get(dptId);
+        if (parsed == null) {
+            Matcher m = DPT_PATTERN.matcher(dptId);
+            String sub = m.matches() ? m.group("sub") : null;
+            parsed = m.matches() ? Optional.of(new DptId(m.group("main"), sub != null ? sub : "")) : Optional.empty();
+            if (PARSED_DPT_IDS.size() < MAX_PARSED_DPT_IDS) {
+                PARSED_DPT_IDS.put(dptId, parsed);
+            }
+        }
+        return parsed.orElse(null);
+    }
+
     /**
      * get allowed openHAB types for given DPT
      *
@@ -121,13 +154,13 @@ public class DPTUtil {
     public static Set<Class<? extends Type>> getAllowedTypes(String dptId) {
         Set<Class<? extends Type>> allowedTypes = DPT_TYPE_MAP.get(dptId);
         if (allowedTypes == null) {
-            Matcher m = DPT_PATTERN.matcher(dptId);
-            if (!m.matches()) {
+            DptId parsed = parseDptId(dptId);
+            if (parsed == null) {
                 LOGGER.warn("getAllowedTypes couldn't identify main number in dptID '{}'", dptId);
                 return Set.of();
             }
 
-            allowedTypes = DPT_MAIN_TYPE_MAP.getOrDefault(m.group("main"), Set.of());
+            allowedTypes = DPT_MAIN_TYPE_MAP.getOrDefault(parsed.main(), Set.of());
         }
         return allowedTypes;
     }
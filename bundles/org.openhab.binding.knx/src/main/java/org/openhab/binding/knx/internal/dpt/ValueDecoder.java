@@ -64,6 +64,7 @@ import io.calimero.dptxlator.TranslatorTypes;
  * Parts of this code are based on the openHAB KNXCoreTypeMapper by Kai Kreuzer et al.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author acfischer42 - Render values as String only when needed
  */
 @NonNullByDefault
 public class ValueDecoder {
@@ -115,13 +116,12 @@ public class ValueDecoder {
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
-            String value = "";
+            // the value is only rendered as String by the DPTs that need it, see below
             String translatorDptId = dptId;
             DPTXlator translator;
             try {
                 translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
                 translator.setData(data);
-                value = translator.getValue();
                 translatorDptId = translator.getType().getID();
             } catch (KNXException e) {
                 // special handling for decoding DPTs not yet supported by Calimero
@@ -131,7 +131,6 @@ public class ValueDecoder {
                     }
                     translator = TranslatorTypes.createTranslator(0, "13.010");
                     translator.setData(data);
-                    value = translator.getValue();
                     dptId = "13.010";
                     translatorDptId = dptId;
                 } else if ("235.61001".equals(dptId)) {
@@ -140,7 +139,6 @@ public class ValueDecoder {
                     }
                     translator = TranslatorTypes.createTranslator(0, "5.006");
                     translator.setData(new byte[] { data[4] });
-                    value = translator.getValue();
                     dptId = "5.006";
                     translatorDptId = dptId;
                 } else {
@@ -150,21 +148,21 @@ public class ValueDecoder {
             }
             String id = dptId; // prefer using the user-supplied DPT
 
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
+            DPTUtil.DptId parsedDptId = DPTUtil.parseDptId(id);
+            if (parsedDptId == null) {
                 LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
                         id);
                 id = translatorDptId;
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
+                parsedDptId = DPTUtil.parseDptId(id);
+                if (parsedDptId == null) {
                     LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", id);
                     return null;
                 }
             }
             LOGGER.trace("Finally using datapoint DPT = {}", id);
 
-            String mainType = m.group("main");
-            String subType = m.group("sub");
+            String mainType = parsedDptId.main();
+            String subType = parsedDptId.sub();
 
             switch (mainType) {
                 case "1":
@@ -178,7 +176,7 @@ public class ValueDecoder {
                     return handleDpt3(subType, translator);
                 case "6":
                     if ("020".equals(subType)) {
-                        return handleStringOrDecimal(data, value, preferredType, 8);
+                        return handleStringOrDecimal(data, translator, preferredType, 8);
                     } else {
                         return handleNumericDpt(id, translator, preferredType);
                     }
@@ -190,14 +188,14 @@ public class ValueDecoder {
                     }
                     return handleNumericDpt(id, translator, preferredType);
                 case "10":
-                    return handleDpt10(value);
+                    return handleDpt10(translator.getValue());
                 case "11":
                     return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN, Locale.ROOT)
-                            .format(new SimpleDateFormat(DATE_FORMAT, Locale.ROOT).parse(value)));
+                            .format(new SimpleDateFormat(DATE_FORMAT, Locale.ROOT).parse(translator.getValue())));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
@@ -205,20 +203,21 @@ public class ValueDecoder {
                     return handleDpt19(translator, data);
                 case "20":
                 case "21":
-                    return handleStringOrDecimal(data, value, preferredType, 8);
+                    return handleStringOrDecimal(data, translator, preferredType, 8);
                 case "22":
-                    return handleStringOrDecimal(data, value, preferredType, 16);
+                    return handleStringOrDecimal(data, translator, preferredType, 16);
                 case "16":
                 case "28":
                 case "250": // Map all combined color transitions to String,
                 case "252": // as no native support is planned.
                 case "253": // Currently only one subtype 2xx.600
                 case "254": // is defined for those DPTs.
-                    return StringType.valueOf(value);
+                    return StringType.valueOf(translator.getValue());
                 case "243": // color translation, fix regional
                 case "249": // settings
                     // workaround for different number formats, this is to fix time>=1000s:
                     // time is last block and may contain . and ,
+                    String value = translator.getValue();
                     int sep = java.lang.Math.max(value.indexOf(" % "), value.indexOf(" K "));
                     String time = value.substring(sep + 3);
                     Matcher mt = TSD_SEPARATOR.matcher(time);
@@ -229,11 +228,11 @@ public class ValueDecoder {
                     value = value.substring(0, sep + 3) + time;
                     return StringType.valueOf(value.replace(',', '.').replace(". ", ", "));
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(translator.getValue(), subType);
                 case "242":
-                    return handleDpt242(value);
+                    return handleDpt242(translator.getValue());
                 case "251":
-                    return handleDpt251(value, subType, preferredType);
+                    return handleDpt251(translator.getValue(), subType, preferredType);
                 default:
                     return handleNumericDpt(id, translator, preferredType);
             }
@@ -376,8 +375,8 @@ public class ValueDecoder {
         }
     }
 
-    private static @Nullable Type handleStringOrDecimal(byte[] data, String value, Class<? extends Type> preferredType,
-            int bits) {
+    private static @Nullable Type handleStringOrDecimal(byte[] data, DPTXlator stringTranslator,
+            Class<? extends Type> preferredType, int bits) {
         if (DecimalType.class.equals(preferredType)) {
             try {
                 // need a new translator for 8 bit unsigned, as Calimero handles only the string type
@@ -396,7 +395,7 @@ public class ValueDecoder {
                 return null;
             }
         } else {
-            return StringType.valueOf(value);
+            return StringType.valueOf(stringTranslator.getValue());
         }
     }
 
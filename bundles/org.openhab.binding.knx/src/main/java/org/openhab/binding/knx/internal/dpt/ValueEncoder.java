@@ -18,7 +18,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.Locale;
-import java.util.regex.Matcher;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -59,6 +58,7 @@ import io.calimero.dptxlator.TranslatorTypes;
  * Parts of this code are based on the openHAB KNXCoreTypeMapper by Kai Kreuzer et al.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author acfischer42 - Use cached DPT ids
  */
 @NonNullByDefault
 public class ValueEncoder {
@@ -76,13 +76,13 @@ public class ValueEncoder {
      * @return the value formatted as String
      */
     public static @Nullable String encode(Type value, String dptId) {
-        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
-        if (!m.matches() || m.groupCount() != 2) {
+        DPTUtil.DptId parsedDptId = DPTUtil.parseDptId(dptId);
+        if (parsedDptId == null) {
             LOGGER.warn("Couldn't identify main/sub number in dptId '{}'", dptId);
             return null;
         }
 
-        String mainNumber = m.group("main");
+        String mainNumber = parsedDptId.main();
 
         try {
             DPTXlator translator = TranslatorTypes.createTranslator(Integer.parseInt(mainNumber),
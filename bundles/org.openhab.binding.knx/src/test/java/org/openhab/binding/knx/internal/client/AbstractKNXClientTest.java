@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
+import org.openhab.core.thing.ThingUID;
+
+import io.calimero.GroupAddress;
+import io.calimero.KNXAddress;
+import io.calimero.datapoint.CommandDP;
+import io.calimero.datapoint.Datapoint;
+import io.calimero.link.KNXNetworkLink;
+import io.calimero.process.ProcessCommunicator;
+import io.calimero.secure.SecureApplicationLayer;
+import io.calimero.secure.Security;
+
+/**
+ * Tests the order in which queued read requests are sent to the KNX bus.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+@SuppressWarnings("null")
+class AbstractKNXClientTest {
+
+    private static final GroupAddress GA_1 = new GroupAddress(1, 0, 1);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 0, 2);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 0, 3);
+
+    private final ProcessCommunicator processCommunicator = mock(ProcessCommunicator.class);
+    private final AbstractKNXClient client = new AbstractKNXClient(0, new ThingUID("knx", "ip", "test"), 10, 50, 3,
+            mock(ScheduledExecutorService.class), new CommandExtensionData(new TreeMap<>()), Security.newSecurity(),
+            mock(StatusUpdateCallback.class)) {
+
+        @Override
+        protected KNXNetworkLink establishConnection() {
+            return new DummyKNXNetworkLink();
+        }
+
+        @Override
+        ProcessCommunicator createProcessCommunicator(KNXNetworkLink link, SecureApplicationLayer sal) {
+            return processCommunicator;
+        }
+    };
+
+    @BeforeEach
+    void connect() {
+        client.initialize();
+    }
+
+    @AfterEach
+    void dispose() {
+        client.dispose();
+    }
+
+    @Test
+    void testHigherPriorityReplacesQueuedRead() throws Exception {
+        client.readDatapoint(datapoint(GA_1), ReadPriority.PERIODIC);
+        client.readDatapoint(datapoint(GA_2), ReadPriority.STARTUP);
+        // replaces the queued periodic read
+        client.readDatapoint(datapoint(GA_1), ReadPriority.STARTUP);
+        client.readDatapoint(datapoint(GA_3), ReadPriority.REFRESH);
+        // ignored, a read of higher priority is already queued
+        client.readDatapoint(datapoint(GA_2), ReadPriority.PERIODIC);
+
+        assertEquals(List.of(GA_3, GA_2, GA_1), readAll());
+    }
+
+    @Test
+    void testReadsOfSamePriorityAreSentInQueueOrder() throws Exception {
+        client.readDatapoint(datapoint(GA_3), ReadPriority.STARTUP);
+        client.readDatapoint(datapoint(GA_1), ReadPriority.STARTUP);
+        client.readDatapoint(datapoint(GA_2), ReadPriority.STARTUP);
+
+        assertEquals(List.of(GA_3, GA_1, GA_2), readAll());
+    }
+
+    private Datapoint datapoint(GroupAddress groupAddress) {
+        return new CommandDP(groupAddress, "test", 0, "1.001");
+    }
+
+    /**
+     * Sends all queued reads, one more than queued to make sure nothing is read twice, and returns the group
+     * addresses in the order they have been read.
+     */
+    private List<KNXAddress> readAll() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            client.readNextQueuedDatapoint();
+        }
+        ArgumentCaptor<Datapoint> captor = ArgumentCaptor.forClass(Datapoint.class);
+        verify(processCommunicator, atLeast(0)).read(captor.capture());
+        return captor.getAllValues().stream().map(Datapoint::getMainAddress).toList();
+    }
+}
@@ -57,6 +57,17 @@ class DPTTest {
         assertNotNull(DPTUtil.getAllowedTypes("9.042.1"));
     }
 
+    @Test
+    void testParseDptId() {
+        assertEquals(new DPTUtil.DptId("9", "001"), DPTUtil.parseDptId("9.001"));
+        assertEquals(new DPTUtil.DptId("232", "60000"), DPTUtil.parseDptId("232.60000"));
+        assertEquals(new DPTUtil.DptId("17", ""), DPTUtil.parseDptId("17"));
+        assertNull(DPTUtil.parseDptId("9.042.1"));
+        // cached results are the same
+        assertEquals(DPTUtil.parseDptId("9.001"), DPTUtil.parseDptId("9.001"));
+        assertNull(DPTUtil.parseDptId("9.042.1"));
+    }
+
     @Test
     void testToDPTValueTrailingZeroesStrippedOff() {
         assertEquals("3", ValueEncoder.encode(new DecimalType("3"), "17.001"));
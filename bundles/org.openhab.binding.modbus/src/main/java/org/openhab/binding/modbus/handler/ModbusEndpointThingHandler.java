@@ -14,6 +14,8 @@ package org.openhab.binding.modbus.handler;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.thing.ThingUID;
@@ -22,6 +24,7 @@ import org.openhab.core.thing.ThingUID;
  * Base interface for thing handlers of endpoint things
  *
  * @author Sami Salonen - Initial contribution
+ * @author acfischer42 - Merging of polls and writes
  *
  */
 @NonNullByDefault
@@ -51,4 +54,22 @@ public interface ModbusEndpointThingHandler extends Identifiable<ThingUID> {
      * @return boolean true if the discovery is enabled
      */
     boolean isDiscoveryEnabled();
+
+    /**
+     * Get the planner merging the regular polls of the pollers of this endpoint
+     *
+     * @return the planner or <code>null</code> if polls are not merged
+     */
+    default @Nullable ModbusPollPlanner getPollPlanner() {
+        return null;
+    }
+
+    /**
+     * Get the coalescer merging the register writes of the data things of this endpoint
+     *
+     * @return the coalescer or <code>null</code> if writes are not merged
+     */
+    default @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return null;
+    }
 }
@@ -22,6 +22,9 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PlannedPoll;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
@@ -51,6 +54,7 @@ import org.slf4j.LoggerFactory;
  * child thing handlers inheriting from {@link ModbusReadCallback} -- in practice: {@link ModbusDataThingHandler}.
  *
  * @author Sami Salonen - Initial contribution
+ * @author acfischer42 - Merging of polls and writes
  */
 @NonNullByDefault
 public class ModbusPollerThingHandler extends BaseBridgeHandler {
@@ -189,11 +193,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
+    private volatile @Nullable PlannedPoll plannedPoll;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
     private volatile AtomicReference<@Nullable ModbusRegisterArray> lastPolledDataCache = new AtomicReference<>();
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
 
     private ReadCallbackDelegator callbackDelegator = new ReadCallbackDelegator();
 
@@ -312,9 +319,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        ModbusPollPlanner localPollPlanner = this.pollPlanner;
+        PlannedPoll localPlannedPoll = this.plannedPoll;
+        if (localPollPlanner != null && localPlannedPoll != null) {
+            logger.debug("Unregistering polling from poll planner of the endpoint");
+            localPollPlanner.unregisterRegularPoll(localPlannedPoll);
+        }
         this.pollTask = null;
+        this.pollPlanner = null;
+        this.plannedPoll = null;
         request = null;
         comms = null;
+        writeCoalescer = null;
         updateStatus(ThingStatus.OFFLINE);
     }
 
@@ -327,7 +343,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || plannedPoll != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -348,6 +364,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             return;
         }
         this.comms = localComms;
+        this.writeCoalescer = slaveEndpointThingHandler.getWriteCoalescer();
         ModbusReadFunctionCode localFunctionCode = functionCode;
         if (localFunctionCode == null) {
             return;
@@ -361,10 +378,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
-            logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
-            assert pollTask != null;
+            ModbusPollPlanner localPollPlanner = slaveEndpointThingHandler.getPollPlanner();
+            if (localPollPlanner != null) {
+                logger.debug("Registering polling with poll planner of the endpoint");
+                pollPlanner = localPollPlanner;
+                plannedPoll = localPollPlanner.registerRegularPoll(localRequest, config.getRefresh(),
+                        callbackDelegator, callbackDelegator);
+            } else {
+                logger.debug("Registering polling with ModbusManager");
+                pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
+                        callbackDelegator);
+                assert pollTask != null;
+            }
             updateStatus(ThingStatus.ONLINE);
         }
     }
@@ -417,6 +442,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         return comms;
     }
 
+    /**
+     * Get the coalescer merging register writes of the endpoint of this poller
+     *
+     * @return the coalescer or <code>null</code> if writes are not merged
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     /**
      * Refresh the data
      *
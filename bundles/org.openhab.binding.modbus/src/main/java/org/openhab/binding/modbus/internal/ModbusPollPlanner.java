@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of the pollers of an endpoint into as few requests as possible.
+ *
+ * Polls with the same slave id, function code, poll period and maximum tries are sorted by their start address and
+ * merged as long as the gap between them is at most the configured number of registers or bits and the merged
+ * request stays within the protocol limits. The result of a merged request is sliced and passed to each poll with
+ * the request of the poll, so that the callbacks can't tell the difference to a poll of their own.
+ *
+ * Polls are not merged immediately but shortly after the last change, so that all pollers of an endpoint can register
+ * during initialization before the requests are planned.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlanner {
+
+    private static final long REPLAN_DELAY_MILLIS = 100;
+
+    /**
+     * Regular poll registered with the planner
+     */
+    public static class PlannedPoll {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+        private volatile boolean registered = true;
+
+        PlannedPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private int getStart() {
+            return request.getReference();
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    /**
+     * Request sent to the slave, serving one or more polls
+     */
+    static class MergedRead implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        final ModbusReadRequestBlueprint request;
+        final List<PlannedPoll> polls;
+
+        MergedRead(ModbusReadRequestBlueprint request, List<PlannedPoll> polls) {
+            this.request = request;
+            this.polls = polls;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            result.getRegisters().ifPresent(registers -> {
+                byte[] bytes = registers.getBytes();
+                for (PlannedPoll poll : polls) {
+                    if (poll.registered) {
+                        int offset = poll.getStart() - request.getReference();
+                        ModbusRegisterArray slice = new ModbusRegisterArray(
+                                Arrays.copyOfRange(bytes, offset * 2, (offset + poll.request.getDataLength()) * 2));
+                        poll.resultCallback.handle(new AsyncModbusReadResult(poll.request, slice));
+                    }
+                }
+            });
+            result.getBits().ifPresent(bits -> {
+                for (PlannedPoll poll : polls) {
+                    if (poll.registered) {
+                        int offset = poll.getStart() - request.getReference();
+                        boolean[] slice = new boolean[poll.request.getDataLength()];
+                        for (int i = 0; i < slice.length; i++) {
+                            slice[i] = bits.getBit(offset + i);
+                        }
+                        poll.resultCallback.handle(new AsyncModbusReadResult(poll.request, new BitArray(slice)));
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (PlannedPoll poll : polls) {
+                if (poll.registered) {
+                    poll.failureCallback.handle(new AsyncModbusFailure<>(poll.request, failure.getCause()));
+                }
+            }
+        }
+    }
+
+    private record PollGroup(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis, int maxTries) {
+        static PollGroup of(PlannedPoll poll) {
+            return new PollGroup(poll.request.getUnitID(), poll.request.getFunctionCode(), poll.pollPeriodMillis,
+                    poll.request.getMaxTries());
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollPlanner.class);
+
+    private final String endpointName;
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final int maxGap;
+
+    private final Map<PollGroup, List<PlannedPoll>> polls = new HashMap<>();
+    private final Map<PollGroup, List<PollTask>> pollTasks = new HashMap<>();
+    private final Set<PollGroup> changedGroups = new HashSet<>();
+    private @Nullable ScheduledFuture<?> replanJob;
+    private boolean closed = false;
+
+    /**
+     * @param endpointName name of the endpoint used for logging
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler to plan the requests on
+     * @param maxGap maximum number of registers or bits between two polls that are read although not polled
+     */
+    public ModbusPollPlanner(String endpointName, ModbusCommunicationInterface comms,
+            ScheduledExecutorService scheduler, int maxGap) {
+        this.endpointName = endpointName;
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.maxGap = maxGap;
+    }
+
+    /**
+     * Register a regular poll, see {@link ModbusCommunicationInterface#registerRegularPoll}
+     *
+     * @return the poll to pass to {@link #unregisterRegularPoll(PlannedPoll)}
+     */
+    public synchronized PlannedPoll registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PlannedPoll poll = new PlannedPoll(request, pollPeriodMillis, resultCallback, failureCallback);
+        PollGroup group = PollGroup.of(poll);
+        polls.computeIfAbsent(group, g -> new ArrayList<>()).add(poll);
+        groupChanged(group);
+        return poll;
+    }
+
+    /**
+     * Unregister a regular poll. The callbacks of the poll are not called anymore after this method returns.
+     */
+    public synchronized void unregisterRegularPoll(PlannedPoll poll) {
+        poll.registered = false;
+        PollGroup group = PollGroup.of(poll);
+        List<PlannedPoll> groupPolls = polls.get(group);
+        if (groupPolls != null && groupPolls.remove(poll)) {
+            groupChanged(group);
+        }
+    }
+
+    /**
+     * Unregister all requests from the communication interface
+     */
+    public synchronized void close() {
+        closed = true;
+        ScheduledFuture<?> localReplanJob = replanJob;
+        if (localReplanJob != null) {
+            localReplanJob.cancel(false);
+            replanJob = null;
+        }
+        polls.values().forEach(groupPolls -> groupPolls.forEach(poll -> poll.registered = false));
+        polls.clear();
+        pollTasks.values().forEach(tasks -> tasks.forEach(comms::unregisterRegularPoll));
+        pollTasks.clear();
+        changedGroups.clear();
+    }
+
+    private void groupChanged(PollGroup group) {
+        if (closed) {
+            return;
+        }
+        changedGroups.add(group);
+        ScheduledFuture<?> localReplanJob = replanJob;
+        if (localReplanJob != null) {
+            localReplanJob.cancel(false);
+        }
+        replanJob = scheduler.schedule(this::replan, REPLAN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void replan() {
+        if (closed) {
+            return;
+        }
+        replanJob = null;
+        for (PollGroup group : changedGroups) {
+            List<PollTask> tasks = pollTasks.remove(group);
+            if (tasks != null) {
+                tasks.forEach(comms::unregisterRegularPoll);
+            }
+            List<PlannedPoll> groupPolls = polls.getOrDefault(group, List.of());
+            if (groupPolls.isEmpty()) {
+                polls.remove(group);
+                continue;
+            }
+
+            List<MergedRead> reads = plan(groupPolls, maxGap);
+            List<PollTask> newTasks = new ArrayList<>(reads.size());
+            for (MergedRead read : reads) {
+                if (read.polls.size() == 1) {
+                    // nothing to slice, the results are passed as they are
+                    PlannedPoll poll = read.polls.get(0);
+                    newTasks.add(comms.registerRegularPoll(poll.request, group.pollPeriodMillis(), 0,
+                            poll.resultCallback, poll.failureCallback));
+                } else {
+                    newTasks.add(comms.registerRegularPoll(read.request, group.pollPeriodMillis(), 0, read, read));
+                }
+            }
+            pollTasks.put(group, newTasks);
+            logger.debug("Endpoint {}: {} polls of {} with {} every {} ms merged into {} requests, saving {} frames",
+                    endpointName, groupPolls.size(), group.slaveId(), group.functionCode(), group.pollPeriodMillis(),
+                    reads.size(), groupPolls.size() - reads.size());
+        }
+        changedGroups.clear();
+    }
+
+    /**
+     * Merge polls of the same group into requests
+     *
+     * @param polls polls with the same slave id, function code, poll period and maximum tries
+     * @param maxGap maximum number of registers or bits between two polls that are read although not polled
+     * @return the requests, each serving one or more polls
+     */
+    static List<MergedRead> plan(List<PlannedPoll> polls, int maxGap) {
+        List<PlannedPoll> sorted = new ArrayList<>(polls);
+        sorted.sort(Comparator.comparingInt(PlannedPoll::getStart).thenComparingInt(PlannedPoll::getEnd));
+
+        List<MergedRead> reads = new ArrayList<>();
+        List<PlannedPoll> current = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (PlannedPoll poll : sorted) {
+            int mergedEnd = Math.max(end, poll.getEnd());
+            if (!current.isEmpty() && poll.getStart() - end <= maxGap
+                    && mergedEnd - start <= getMaxLength(poll.request.getFunctionCode())) {
+                current.add(poll);
+                end = mergedEnd;
+            } else {
+                if (!current.isEmpty()) {
+                    reads.add(mergedRead(current, start, end));
+                }
+                current = new ArrayList<>();
+                current.add(poll);
+                start = poll.getStart();
+                end = poll.getEnd();
+            }
+        }
+        if (!current.isEmpty()) {
+            reads.add(mergedRead(current, start, end));
+        }
+        return reads;
+    }
+
+    private static MergedRead mergedRead(List<PlannedPoll> polls, int start, int end) {
+        ModbusReadRequestBlueprint first = polls.get(0).request;
+        ModbusReadRequestBlueprint request = polls.size() == 1 ? first
+                : new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(), start, end - start,
+                        first.getMaxTries());
+        return new MergedRead(request, List.copyOf(polls));
+    }
+
+    private static int getMaxLength(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+    }
+}
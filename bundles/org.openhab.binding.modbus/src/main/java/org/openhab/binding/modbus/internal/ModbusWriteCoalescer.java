@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the register writes of the data things of an endpoint that are submitted within a short window.
+ *
+ * The first write of a slave starts the window. When the window has elapsed, the pending writes of the slave are
+ * sorted by their start address, and writes to adjacent or overlapping registers are sent as a single write multiple
+ * registers request (FC16), as long as the request stays within the protocol limits. A write is never split across
+ * requests. When a register is written more than once within the window, only the last value is sent.
+ *
+ * Thus, the order in which writes to different registers are sent may differ from the order in which they were
+ * submitted, but the last submitted value of each register is the one that ends up in the slave.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescer {
+
+    /**
+     * Write submitted to the coalescer, with the values of later writes to the same registers applied
+     */
+    static class PendingWrite {
+        final int start;
+        final byte[] data;
+        final boolean writeMultiple;
+        final int maxTries;
+        final List<ModbusWriteRegisterRequestBlueprint> requests = new ArrayList<>();
+        final List<ModbusWriteCallback> resultCallbacks = new ArrayList<>();
+        final List<ModbusFailureCallback<ModbusWriteRequestBlueprint>> failureCallbacks = new ArrayList<>();
+
+        PendingWrite(ModbusWriteRegisterRequestBlueprint request, ModbusWriteCallback resultCallback,
+                ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+            this.start = request.getReference();
+            this.data = request.getRegisters().getBytes().clone();
+            this.writeMultiple = request.isWriteMultiple();
+            this.maxTries = request.getMaxTries();
+            requests.add(request);
+            resultCallbacks.add(resultCallback);
+            failureCallbacks.add(failureCallback);
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        int getEnd() {
+            return start + data.length / 2;
+        }
+    }
+
+    /**
+     * Request sent to the slave, merging one or more writes
+     */
+    static class MergedWrite implements ModbusWriteCallback, ModbusFailureCallback<ModbusWriteRequestBlueprint> {
+        final ModbusWriteRegisterRequestBlueprint request;
+        final List<PendingWrite> writes;
+
+        MergedWrite(ModbusWriteRegisterRequestBlueprint request, List<PendingWrite> writes) {
+            this.request = request;
+            this.writes = writes;
+        }
+
+        @Override
+        public void handle(AsyncModbusWriteResult result) {
+            for (PendingWrite write : writes) {
+                for (int i = 0; i < write.requests.size(); i++) {
+                    write.resultCallbacks.get(i)
+                            .handle(new AsyncModbusWriteResult(write.requests.get(i), result.getResponse()));
+                }
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusWriteRequestBlueprint> failure) {
+            for (PendingWrite write : writes) {
+                for (int i = 0; i < write.requests.size(); i++) {
+                    write.failureCallbacks.get(i)
+                            .handle(new AsyncModbusFailure<>(write.requests.get(i), failure.getCause()));
+                }
+            }
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteCoalescer.class);
+
+    private final String endpointName;
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+
+    private final Map<Integer, List<PendingWrite>> pendingWrites = new HashMap<>();
+    private final Map<Integer, ScheduledFuture<?>> flushJobs = new HashMap<>();
+    private final Map<Integer, Long> windowStarts = new HashMap<>();
+    private long submittedWrites = 0;
+    private long sentRequests = 0;
+    private boolean closed = false;
+
+    /**
+     * @param endpointName name of the endpoint used for logging
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler to send the merged writes on
+     * @param windowMillis time to wait for further writes after the first pending write of a slave
+     */
+    public ModbusWriteCoalescer(String endpointName, ModbusCommunicationInterface comms,
+            ScheduledExecutorService scheduler, long windowMillis) {
+        this.endpointName = endpointName;
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Submit a register write, see {@link ModbusCommunicationInterface#submitOneTimeWrite}
+     *
+     * The callbacks are called with the outcome of the request the write has been merged into, together with the
+     * submitted request.
+     */
+    public synchronized void submitOneTimeWrite(ModbusWriteRegisterRequestBlueprint request,
+            ModbusWriteCallback resultCallback, ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        if (closed) {
+            comms.submitOneTimeWrite(request, resultCallback, failureCallback);
+            return;
+        }
+        submittedWrites++;
+        int slaveId = request.getUnitID();
+        List<PendingWrite> writes = pendingWrites.computeIfAbsent(slaveId, id -> new ArrayList<>());
+        PendingWrite write = new PendingWrite(request, resultCallback, failureCallback);
+        for (Iterator<PendingWrite> iterator = writes.iterator(); iterator.hasNext();) {
+            PendingWrite pending = iterator.next();
+            if (pending.getStart() >= write.getStart() && pending.getEnd() <= write.getEnd()) {
+                // all registers are overwritten, the callbacks are notified with the result of the new write
+                iterator.remove();
+                write.requests.addAll(0, pending.requests);
+                write.resultCallbacks.addAll(0, pending.resultCallbacks);
+                write.failureCallbacks.addAll(0, pending.failureCallbacks);
+            } else if (pending.getStart() < write.getEnd() && write.getStart() < pending.getEnd()) {
+                // partially overwritten, apply the new values so that both writes carry the same values
+                int from = Math.max(pending.getStart(), write.getStart());
+                int to = Math.min(pending.getEnd(), write.getEnd());
+                System.arraycopy(write.data, (from - write.getStart()) * 2, pending.data,
+                        (from - pending.getStart()) * 2, (to - from) * 2);
+            }
+        }
+        writes.add(write);
+        if (!flushJobs.containsKey(slaveId)) {
+            windowStarts.put(slaveId, System.nanoTime());
+            flushJobs.put(slaveId, scheduler.schedule(() -> flush(slaveId), windowMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Send pending writes right away and submit further writes without merging
+     *
+     * Must be called before the communication interface is closed, so that no command is lost.
+     */
+    public synchronized void close() {
+        flushJobs.values().forEach(job -> job.cancel(false));
+        new ArrayList<>(pendingWrites.keySet()).forEach(this::flush);
+        closed = true;
+        flushJobs.clear();
+        windowStarts.clear();
+    }
+
+    private synchronized void flush(int slaveId) {
+        flushJobs.remove(slaveId);
+        Long windowStart = windowStarts.remove(slaveId);
+        List<PendingWrite> writes = pendingWrites.remove(slaveId);
+        if (closed || writes == null || writes.isEmpty()) {
+            return;
+        }
+        List<MergedWrite> mergedWrites = merge(slaveId, writes);
+        for (MergedWrite mergedWrite : mergedWrites) {
+            logger.trace("Submitting merged write {} to endpoint {}", mergedWrite.request, endpointName);
+            comms.submitOneTimeWrite(mergedWrite.request, mergedWrite, mergedWrite);
+        }
+        sentRequests += mergedWrites.size();
+        if (logger.isDebugEnabled()) {
+            long latencyMillis = windowStart == null ? 0
+                    : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - windowStart);
+            logger.debug("Endpoint {}: sending {} writes to slave {} as {} requests after {} ms ({}/{} in total)",
+                    endpointName, writes.stream().mapToInt(write -> write.requests.size()).sum(), slaveId,
+                    mergedWrites.size(), latencyMillis, submittedWrites, sentRequests);
+        }
+    }
+
+    /**
+     * Merge the pending writes of a slave into requests
+     *
+     * @param slaveId slave the writes are sent to
+     * @param writes pending writes, later writes have already been applied to overlapping earlier ones
+     * @return the requests, each merging one or more writes
+     */
+    static List<MergedWrite> merge(int slaveId, List<PendingWrite> writes) {
+        List<PendingWrite> sorted = new ArrayList<>(writes);
+        sorted.sort(Comparator.comparingInt(PendingWrite::getStart).thenComparingInt(PendingWrite::getEnd));
+
+        List<MergedWrite> mergedWrites = new ArrayList<>();
+        List<PendingWrite> current = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (PendingWrite write : sorted) {
+            int mergedEnd = Math.max(end, write.getEnd());
+            if (!current.isEmpty() && write.getStart() <= end
+                    && mergedEnd - start <= ModbusConstants.MAX_REGISTERS_WRITE_COUNT) {
+                current.add(write);
+                end = mergedEnd;
+            } else {
+                if (!current.isEmpty()) {
+                    mergedWrites.add(mergedWrite(slaveId, current, start, end));
+                }
+                current = new ArrayList<>();
+                current.add(write);
+                start = write.getStart();
+                end = write.getEnd();
+            }
+        }
+        if (!current.isEmpty()) {
+            mergedWrites.add(mergedWrite(slaveId, current, start, end));
+        }
+        return mergedWrites;
+    }
+
+    private static MergedWrite mergedWrite(int slaveId, List<PendingWrite> writes, int start, int end) {
+        byte[] data = new byte[(end - start) * 2];
+        boolean writeMultiple = end - start > 1;
+        int maxTries = 0;
+        for (PendingWrite write : writes) {
+            System.arraycopy(write.data, 0, data, (write.getStart() - start) * 2, write.data.length);
+            writeMultiple |= write.writeMultiple;
+            maxTries = Math.max(maxTries, write.maxTries);
+        }
+        return new MergedWrite(new ModbusWriteRegisterRequestBlueprint(slaveId, start, new ModbusRegisterArray(data),
+                writeMultiple, maxTries), List.copyOf(writes));
+    }
+}
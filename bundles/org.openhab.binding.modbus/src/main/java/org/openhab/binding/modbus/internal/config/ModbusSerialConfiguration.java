@@ -39,6 +39,9 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean mergePolls;
+    private int mergePollsMaxGap;
+    private int mergeWritesMillis;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +170,28 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMergePollsMaxGap() {
+        return mergePollsMaxGap;
+    }
+
+    public void setMergePollsMaxGap(int mergePollsMaxGap) {
+        this.mergePollsMaxGap = mergePollsMaxGap;
+    }
+
+    public int getMergeWritesMillis() {
+        return mergeWritesMillis;
+    }
+
+    public void setMergeWritesMillis(int mergeWritesMillis) {
+        this.mergeWritesMillis = mergeWritesMillis;
+    }
 }
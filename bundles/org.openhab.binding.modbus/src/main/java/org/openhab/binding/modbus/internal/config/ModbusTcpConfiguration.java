@@ -34,6 +34,9 @@ public class ModbusTcpConfiguration {
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
     private boolean rtuEncoded;
+    private boolean mergePolls;
+    private int mergePollsMaxGap;
+    private int mergeWritesMillis;
 
     public boolean getRtuEncoded() {
         return rtuEncoded;
@@ -118,4 +121,28 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMergePollsMaxGap() {
+        return mergePollsMaxGap;
+    }
+
+    public void setMergePollsMaxGap(int mergePollsMaxGap) {
+        this.mergePollsMaxGap = mergePollsMaxGap;
+    }
+
+    public int getMergeWritesMillis() {
+        return mergeWritesMillis;
+    }
+
+    public void setMergeWritesMillis(int mergeWritesMillis) {
+        this.mergeWritesMillis = mergeWritesMillis;
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.ModbusBindingConstants;
+import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link ModbusCommandExtension} is responsible for handling console commands
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class ModbusCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_READS = "reads";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_READS), false);
+
+    private final ThingRegistry thingRegistry;
+
+    @Activate
+    public ModbusCommandExtension(final @Reference ThingRegistry thingRegistry) {
+        super(ModbusBindingConstants.BINDING_ID, "Interact with the Modbus binding.");
+        this.thingRegistry = thingRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && CMD_READS.equalsIgnoreCase(args[0])) {
+            console.println("data thing, decoded reads, skipped reads with unchanged data:");
+            for (Thing thing : thingRegistry.getAll()) {
+                if (thing.getHandler() instanceof ModbusDataThingHandler handler) {
+                    console.println(thing.getUID() + "  " + handler.getDecodedReadCount() + "  "
+                            + handler.getSkippedReadCount());
+                }
+            }
+            return;
+        }
+        printUsage(console);
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_READS,
+                "list the number of decoded and skipped reads of each data thing since its initialization"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -17,6 +17,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -34,6 +36,7 @@ import org.slf4j.LoggerFactory;
  * Base class for Modbus Slave endpoint thing handlers
  *
  * @author Sami Salonen - Initial contribution
+ * @author acfischer42 - Merging of polls and writes
  *
  * @param <E> endpoint class
  * @param <C> config class
@@ -48,6 +51,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +81,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    int mergePollsMaxGap = getMergePollsMaxGap();
+                    if (mergePollsMaxGap >= 0) {
+                        pollPlanner = new ModbusPollPlanner(getThing().getUID().toString(), comms, scheduler,
+                                mergePollsMaxGap);
+                    }
+                    int mergeWritesMillis = getMergeWritesMillis();
+                    if (mergeWritesMillis > 0) {
+                        writeCoalescer = new ModbusWriteCoalescer(getThing().getUID().toString(), comms, scheduler,
+                                mergeWritesMillis);
+                    }
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +108,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusPollPlanner localPollPlanner = pollPlanner;
+        if (localPollPlanner != null) {
+            localPollPlanner.close();
+            pollPlanner = null;
+        }
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.close();
+            writeCoalescer = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +135,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    @Override
+    public @Nullable ModbusPollPlanner getPollPlanner() {
+        return pollPlanner;
+    }
+
+    @Override
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -123,6 +158,20 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
+    /**
+     * Must be overriden by subclasses to return the maximum gap between merged polls
+     *
+     * @return maximum number of registers or bits between two merged polls, or -1 if polls are not merged
+     */
+    protected abstract int getMergePollsMaxGap();
+
+    /**
+     * Must be overriden by subclasses to return the window for merging writes
+     *
+     * @return time in milliseconds to wait for further writes to merge, or 0 if writes are not merged
+     */
+    protected abstract int getMergeWritesMillis();
+
     /**
      * Format error message in case some other endpoint has been configured with different
      * {@link EndpointPoolConfiguration}
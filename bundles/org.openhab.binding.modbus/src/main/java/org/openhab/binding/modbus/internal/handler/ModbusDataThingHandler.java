@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +36,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -91,6 +93,7 @@ import org.slf4j.LoggerFactory;
  * to avoid data race conditions.
  *
  * @author Sami Salonen - Initial contribution
+ * @author acfischer42 - Skip decoding of unchanged data, merging of writes
  */
 @NonNullByDefault
 public class ModbusDataThingHandler extends BaseThingHandler {
@@ -137,6 +140,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
@@ -145,6 +149,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    // registers or bit of the last decoded read, used to skip decoding and transformation of unchanged data
+    private volatile byte @Nullable [] lastReadData;
+    private volatile long decodedReadCount;
+    private volatile long skippedReadCount;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -217,8 +225,15 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
 
-        logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null && request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+            logger.trace("Submitting write task {} to be merged with other writes to endpoint {}", request,
+                    comms.getEndpoint());
+            localWriteCoalescer.submitOneTimeWrite(registerRequest, this::onWriteResponse, this::handleWriteError);
+        } else {
+            logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
+            comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -414,6 +429,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                writeCoalescer = endpointHandler.getWriteCoalescer();
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +448,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeCoalescer = localPollerHandler.getWriteCoalescer();
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -468,6 +485,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         pollStart = 0;
         slaveId = 0;
         comms = null;
+        writeCoalescer = null;
         functionCode = null;
         readRequest = null;
         isWriteEnabled = false;
@@ -480,6 +498,36 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        lastReadData = null;
+        decodedReadCount = 0;
+        skippedReadCount = 0;
+    }
+
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        // the state of the newly linked channel is not known yet
+        lastReadData = null;
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public synchronized void channelUnlinked(ChannelUID channelUID) {
+        lastReadData = null;
+        super.channelUnlinked(channelUID);
+    }
+
+    /**
+     * @return number of reads that have been decoded since the thing was initialized
+     */
+    public long getDecodedReadCount() {
+        return decodedReadCount;
+    }
+
+    /**
+     * @return number of reads with unchanged data that have not been decoded again since the thing was initialized
+     */
+    public long getSkippedReadCount() {
+        return skippedReadCount;
     }
 
     @Override
@@ -571,6 +619,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             }
         }
         readTransformation = new ModbusTransformation(config.getReadTransform());
+        // states of the previous read might have been transformed differently
+        lastReadData = null;
         validateReadIndex();
     }
 
@@ -835,6 +885,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             int itemsPerRegister = 16 / readValueType.getBits();
             extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
         }
+        int registerIndex = readIndex.get() - pollStart;
+        int registerCount = Math.max(1, readValueType.getBits() / 16);
+        if (updateIfUnchanged(registers.getBytes(), registerIndex * 2, (registerIndex + registerCount) * 2)) {
+            return;
+        }
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
@@ -852,6 +907,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        if (updateIfUnchanged(new byte[] { (byte) (boolValue ? 1 : 0) }, 0, 1)) {
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -945,6 +1003,44 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Update the channels with the states of the previous read if the data read by this thing has not changed since.
+     *
+     * The states are not decoded again, only the channels that are due according to updateUnchangedValuesEveryMillis
+     * and the last read success are updated. This is only done without a read transformation, as the output of a
+     * transformation might change although its input has not, e.g. when the transformation file has been edited.
+     *
+     * @param data polled data
+     * @param from index of the first byte read by this thing
+     * @param to index after the last byte read by this thing
+     * @return whether the data was unchanged and the channels have been updated
+     */
+    private boolean updateIfUnchanged(byte[] data, int from, int to) {
+        ModbusTransformation localReadTransformation = readTransformation;
+        if (localReadTransformation == null || !localReadTransformation.isIdentityTransform() || from < 0
+                || to > data.length) {
+            lastReadData = null;
+            decodedReadCount++;
+            return false;
+        }
+        byte[] lastData = lastReadData;
+        if (lastData == null || !Arrays.equals(lastData, 0, lastData.length, data, from, to)) {
+            lastReadData = Arrays.copyOfRange(data, from, to);
+            decodedReadCount++;
+            return false;
+        }
+        skippedReadCount++;
+        Map<ChannelUID, State> states = new HashMap<>(channelLastState);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (states.containsKey(lastReadSuccessUID)) {
+            states.put(lastReadSuccessUID, new DateTimeType());
+        }
+        updateExpiredChannels(states);
+        logger.trace("Thing {} data unchanged, reusing channel states (decoded {} reads, skipped {} reads)",
+                thing.getUID(), decodedReadCount, skippedReadCount);
+        return true;
+    }
+
     /**
      * Update linked channels
      *
@@ -32,6 +32,7 @@ import org.openhab.core.thing.binding.ThingHandlerService;
  * Endpoint thing handler for serial slaves
  *
  * @author Sami Salonen - Initial contribution
+ * @author acfischer42 - Merging of polls and writes
  */
 @NonNullByDefault
 public class ModbusSerialThingHandler
@@ -95,6 +96,21 @@ public class ModbusSerialThingHandler
                 Optional.ofNullable(this.endpoint).map(e -> e.getPortName()).orElse("<null>"));
     }
 
+    @Override
+    protected int getMergePollsMaxGap() {
+        ModbusSerialConfiguration localConfig = config;
+        if (localConfig == null || !localConfig.isMergePolls()) {
+            return -1;
+        }
+        return Math.max(0, localConfig.getMergePollsMaxGap());
+    }
+
+    @Override
+    protected int getMergeWritesMillis() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig == null ? 0 : localConfig.getMergeWritesMillis();
+    }
+
     @Override
     public int getSlaveId() throws EndpointNotInitializedException {
         ModbusSerialConfiguration config = this.config;
@@ -32,6 +32,7 @@ import org.openhab.core.thing.binding.ThingHandlerService;
  * Endpoint thing handler for TCP slaves
  *
  * @author Sami Salonen - Initial contribution
+ * @author acfischer42 - Merging of polls and writes
  */
 @NonNullByDefault
 public class ModbusTcpThingHandler
@@ -73,6 +74,21 @@ public class ModbusTcpThingHandler
                 Optional.ofNullable(this.endpoint).map(e -> String.valueOf(e.getPort())).orElse("<null>"));
     }
 
+    @Override
+    protected int getMergePollsMaxGap() {
+        ModbusTcpConfiguration localConfig = config;
+        if (localConfig == null || !localConfig.isMergePolls()) {
+            return -1;
+        }
+        return Math.max(0, localConfig.getMergePollsMaxGap());
+    }
+
+    @Override
+    protected int getMergeWritesMillis() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig == null ? 0 : localConfig.getMergeWritesMillis();
+    }
+
     @Override
     public int getSlaveId() throws EndpointNotInitializedException {
         ModbusTcpConfiguration localConfig = config;
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.MergedRead;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PlannedPoll;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * Tests for {@link ModbusPollPlanner}
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private final ModbusReadCallback resultCallback = mock(ModbusReadCallback.class);
+    @SuppressWarnings("unchecked")
+    private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = mock(
+            ModbusFailureCallback.class);
+
+    private PlannedPoll poll(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new PlannedPoll(new ModbusReadRequestBlueprint(1, functionCode, start, length, 3), 1000, resultCallback,
+                failureCallback);
+    }
+
+    private PlannedPoll poll(int start, int length) {
+        return poll(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length);
+    }
+
+    @Test
+    public void testAdjacentAndOverlappingPollsAreMerged() {
+        PlannedPoll single = poll(40, 2);
+        List<MergedRead> reads = ModbusPollPlanner.plan(List.of(poll(12, 8), single, poll(0, 10), poll(10, 5)), 0);
+
+        assertEquals(2, reads.size());
+        assertEquals(0, reads.get(0).request.getReference());
+        assertEquals(20, reads.get(0).request.getDataLength());
+        assertEquals(3, reads.get(0).polls.size());
+        assertSame(single.getRequest(), reads.get(1).request);
+    }
+
+    @Test
+    public void testPollsWithinGapAreMerged() {
+        List<MergedRead> reads = ModbusPollPlanner.plan(List.of(poll(0, 10), poll(20, 5), poll(40, 2)), 10);
+
+        assertEquals(2, reads.size());
+        assertEquals(0, reads.get(0).request.getReference());
+        assertEquals(25, reads.get(0).request.getDataLength());
+        assertEquals(40, reads.get(1).request.getReference());
+    }
+
+    @Test
+    public void testMergedRequestsRespectProtocolLimits() {
+        List<MergedRead> reads = ModbusPollPlanner.plan(List.of(poll(0, 100), poll(100, 25), poll(125, 1)), 0);
+        assertEquals(2, reads.size());
+        assertEquals(125, reads.get(0).request.getDataLength());
+
+        reads = ModbusPollPlanner.plan(List.of(poll(ModbusReadFunctionCode.READ_COILS, 0, 100),
+                poll(ModbusReadFunctionCode.READ_COILS, 100, 100)), 0);
+        assertEquals(1, reads.size());
+        assertEquals(200, reads.get(0).request.getDataLength());
+    }
+
+    @Test
+    public void testRegistersAreSliced() {
+        PlannedPoll first = poll(0, 10);
+        PlannedPoll second = poll(12, 3);
+        MergedRead read = ModbusPollPlanner.plan(List.of(first, second), 2).get(0);
+
+        int[] registers = new int[15];
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = 1000 + i;
+        }
+        read.handle(new AsyncModbusReadResult(read.request, new ModbusRegisterArray(registers)));
+
+        ArgumentCaptor<AsyncModbusReadResult> results = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(resultCallback, times(2)).handle(results.capture());
+        AsyncModbusReadResult secondResult = results.getAllValues().get(1);
+        assertSame(second.getRequest(), secondResult.getRequest());
+        ModbusRegisterArray slice = secondResult.getRegisters().orElseThrow();
+        assertEquals(3, slice.size());
+        assertEquals(1012, slice.getRegister(0));
+        assertEquals(1014, slice.getRegister(2));
+    }
+
+    @Test
+    public void testBitsAreSliced() {
+        PlannedPoll first = poll(ModbusReadFunctionCode.READ_COILS, 0, 4);
+        PlannedPoll second = poll(ModbusReadFunctionCode.READ_COILS, 4, 4);
+        MergedRead read = ModbusPollPlanner.plan(List.of(first, second), 0).get(0);
+
+        read.handle(new AsyncModbusReadResult(read.request,
+                new BitArray(false, false, false, false, true, false, true, true)));
+
+        ArgumentCaptor<AsyncModbusReadResult> results = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(resultCallback, times(2)).handle(results.capture());
+        BitArray slice = results.getAllValues().get(1).getBits().orElseThrow();
+        assertEquals(4, slice.size());
+        assertTrue(slice.getBit(0));
+        assertFalse(slice.getBit(1));
+        assertTrue(slice.getBit(3));
+    }
+
+    @Test
+    public void testFailureIsPassedWithRequestOfPoll() {
+        PlannedPoll first = poll(0, 10);
+        PlannedPoll second = poll(10, 10);
+        MergedRead read = ModbusPollPlanner.plan(List.of(first, second), 0).get(0);
+        Exception cause = new Exception("timeout");
+
+        read.handle(new AsyncModbusFailure<>(read.request, cause));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(failureCallback, times(2)).handle(failures.capture());
+        assertSame(first.getRequest(), failures.getAllValues().get(0).getRequest());
+        assertSame(second.getRequest(), failures.getAllValues().get(1).getRequest());
+        assertSame(cause, failures.getAllValues().get(1).getCause());
+    }
+
+    @Test
+    public void testPollsAreRegisteredPerGroup() {
+        ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        PollTask pollTask = mock(PollTask.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenReturn(pollTask);
+        ModbusPollPlanner planner = new ModbusPollPlanner("endpoint", comms, scheduler, 0);
+
+        PlannedPoll first = planner.registerRegularPoll(
+                new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10, 3), 1000,
+                resultCallback, failureCallback);
+        planner.registerRegularPoll(
+                new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 10, 3), 1000,
+                resultCallback, failureCallback);
+        PlannedPoll input = planner.registerRegularPoll(
+                new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 10, 10, 3), 1000,
+                resultCallback, failureCallback);
+        verifyNoInteractions(comms);
+
+        ArgumentCaptor<Runnable> replan = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(3)).schedule(replan.capture(), anyLong(), any(TimeUnit.class));
+        replan.getValue().run();
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> requests = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        verify(comms, times(2)).registerRegularPoll(requests.capture(), eq(1000L), eq(0L), any(), any());
+        ModbusReadRequestBlueprint merged = requests.getAllValues().stream()
+                .filter(request -> request.getFunctionCode() == ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS)
+                .findFirst().orElseThrow();
+        assertEquals(0, merged.getReference());
+        assertEquals(20, merged.getDataLength());
+        verify(comms).registerRegularPoll(input.getRequest(), 1000L, 0L, resultCallback, failureCallback);
+
+        planner.unregisterRegularPoll(first);
+        verify(scheduler, times(4)).schedule(replan.capture(), anyLong(), any(TimeUnit.class));
+        replan.getValue().run();
+        verify(comms).unregisterRegularPoll(pollTask);
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+    }
+}
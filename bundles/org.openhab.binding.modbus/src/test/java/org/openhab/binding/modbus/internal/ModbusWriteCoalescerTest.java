@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * Tests for {@link ModbusWriteCoalescer}
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescerTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ModbusWriteCallback resultCallback = mock(ModbusWriteCallback.class);
+    @SuppressWarnings("unchecked")
+    private final ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback = mock(
+            ModbusFailureCallback.class);
+    private final ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer("endpoint", comms, scheduler, 50);
+
+    private static ModbusWriteRegisterRequestBlueprint write(int slaveId, int start, int... registers) {
+        return new ModbusWriteRegisterRequestBlueprint(slaveId, start, new ModbusRegisterArray(registers), false, 3);
+    }
+
+    private void submit(ModbusWriteRegisterRequestBlueprint request) {
+        coalescer.submitOneTimeWrite(request, resultCallback, failureCallback);
+    }
+
+    private List<ModbusWriteRegisterRequestBlueprint> flush(int expectedRequests) {
+        ArgumentCaptor<Runnable> flushJobs = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeastOnce()).schedule(flushJobs.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+        verifyNoInteractions(comms);
+        flushJobs.getAllValues().forEach(Runnable::run);
+
+        ArgumentCaptor<ModbusWriteRegisterRequestBlueprint> requests = ArgumentCaptor
+                .forClass(ModbusWriteRegisterRequestBlueprint.class);
+        verify(comms, times(expectedRequests)).submitOneTimeWrite(requests.capture(), any(), any());
+        return requests.getAllValues();
+    }
+
+    private static void assertRegisters(ModbusWriteRegisterRequestBlueprint request, int start, int... registers) {
+        assertEquals(start, request.getReference());
+        assertEquals(registers.length, request.getRegisters().size());
+        for (int i = 0; i < registers.length; i++) {
+            assertEquals(registers[i], request.getRegisters().getRegister(i));
+        }
+    }
+
+    @Test
+    public void testAdjacentWritesAreMerged() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        submit(write(1, 12, 3));
+        submit(write(1, 10, 1, 2));
+        submit(write(1, 20, 4));
+
+        List<ModbusWriteRegisterRequestBlueprint> requests = flush(2);
+        assertRegisters(requests.get(0), 10, 1, 2, 3);
+        assertTrue(requests.get(0).isWriteMultiple());
+        assertRegisters(requests.get(1), 20, 4);
+        assertFalse(requests.get(1).isWriteMultiple());
+    }
+
+    @Test
+    public void testLastValueOfRegisterIsWritten() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        submit(write(1, 10, 1, 2));
+        submit(write(1, 11, 5, 6));
+        submit(write(1, 10, 7));
+
+        List<ModbusWriteRegisterRequestBlueprint> requests = flush(1);
+        assertRegisters(requests.get(0), 10, 7, 5, 6);
+    }
+
+    @Test
+    public void testWritesOfDifferentSlavesAreNotMerged() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        submit(write(1, 10, 1));
+        submit(write(2, 11, 2));
+
+        List<ModbusWriteRegisterRequestBlueprint> requests = flush(2);
+        assertEquals(List.of(1, 2), requests.stream().map(ModbusWriteRegisterRequestBlueprint::getUnitID).sorted()
+                .toList());
+    }
+
+    @Test
+    public void testWritesAreNotSplit() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        submit(write(1, 0, new int[120]));
+        submit(write(1, 120, 1, 2, 3, 4));
+
+        List<ModbusWriteRegisterRequestBlueprint> requests = flush(2);
+        assertEquals(120, requests.get(0).getRegisters().size());
+        assertRegisters(requests.get(1), 120, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testPendingWritesAreSentOnClose() {
+        ScheduledFuture<?> flushJob = mock(ScheduledFuture.class);
+        doReturn(flushJob).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        submit(write(1, 10, 1));
+        submit(write(1, 11, 2));
+        verifyNoInteractions(comms);
+
+        coalescer.close();
+
+        verify(flushJob).cancel(false);
+        ArgumentCaptor<ModbusWriteRegisterRequestBlueprint> requests = ArgumentCaptor
+                .forClass(ModbusWriteRegisterRequestBlueprint.class);
+        verify(comms).submitOneTimeWrite(requests.capture(), any(), any());
+        assertRegisters(requests.getValue(), 10, 1, 2);
+
+        ModbusWriteRegisterRequestBlueprint afterClose = write(1, 12, 3);
+        submit(afterClose);
+        verify(comms).submitOneTimeWrite(afterClose, resultCallback, failureCallback);
+    }
+
+    @Test
+    public void testResultIsPassedWithSubmittedRequests() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        ModbusWriteRegisterRequestBlueprint first = write(1, 10, 1);
+        ModbusWriteRegisterRequestBlueprint second = write(1, 11, 2);
+        submit(first);
+        submit(second);
+        ArgumentCaptor<Runnable> flushJob = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flushJob.capture(), anyLong(), any(TimeUnit.class));
+        flushJob.getValue().run();
+
+        ArgumentCaptor<ModbusWriteCallback> mergedResultCallback = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        ArgumentCaptor<ModbusWriteRegisterRequestBlueprint> merged = ArgumentCaptor
+                .forClass(ModbusWriteRegisterRequestBlueprint.class);
+        verify(comms).submitOneTimeWrite(merged.capture(), mergedResultCallback.capture(), any());
+        ModbusResponse response = mock(ModbusResponse.class);
+        mergedResultCallback.getValue().handle(new AsyncModbusWriteResult(merged.getValue(), response));
+
+        ArgumentCaptor<AsyncModbusWriteResult> results = ArgumentCaptor.forClass(AsyncModbusWriteResult.class);
+        verify(resultCallback, times(2)).handle(results.capture());
+        assertSame(first, results.getAllValues().get(0).getRequest());
+        assertSame(second, results.getAllValues().get(1).getRequest());
+        assertSame(response, results.getAllValues().get(1).getResponse());
+    }
+
+    @Test
+    public void testFailureIsPassedWithSubmittedRequests() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        ModbusWriteRegisterRequestBlueprint first = write(1, 10, 1);
+        ModbusWriteRegisterRequestBlueprint second = write(1, 11, 2);
+        submit(first);
+        submit(second);
+        ArgumentCaptor<Runnable> flushJob = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flushJob.capture(), anyLong(), any(TimeUnit.class));
+        flushJob.getValue().run();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ModbusFailureCallback<ModbusWriteRequestBlueprint>> mergedFailureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        ArgumentCaptor<ModbusWriteRegisterRequestBlueprint> merged = ArgumentCaptor
+                .forClass(ModbusWriteRegisterRequestBlueprint.class);
+        verify(comms).submitOneTimeWrite(merged.capture(), any(), mergedFailureCallback.capture());
+        Exception cause = new Exception("timeout");
+        mergedFailureCallback.getValue().handle(new AsyncModbusFailure<>(merged.getValue(), cause));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failures = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(failureCallback, times(2)).handle(failures.capture());
+        assertSame(first, failures.getAllValues().get(0).getRequest());
+        assertSame(second, failures.getAllValues().get(1).getRequest());
+        assertSame(cause, failures.getAllValues().get(1).getCause());
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.mqtt.generic;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -71,7 +72,13 @@ import org.slf4j.LoggerFactory;
  * While setting up your {@link ChannelState} you would set the callback to your thing handler,
  * because this base class implements {@link ChannelStateUpdateListener}.
  *
+ * <p>
+ * All {@link ChannelState}s subscribed to the same topic receive the same payload. It is decoded only once by
+ * {@link #decodePayload(byte[])}, so their incoming transformations get the same string and can share the work done
+ * on it, e.g. parsing a JSON document for JSONPATH transformations.
+ *
  * @author David Graeff - Initial contribution
+ * @author acfischer42 - Decode payloads shared by several channels once
  */
 @NonNullByDefault
 public abstract class AbstractMQTTThingHandler extends BaseThingHandler
@@ -83,9 +90,13 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     protected @Nullable MqttBrokerConnection connection;
 
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
+    private volatile @Nullable DecodedPayload lastPayload;
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
 
+    private record DecodedPayload(byte[] payload, String value) {
+    }
+
     public AbstractMQTTThingHandler(Thing thing, int subscribeTimeout) {
         super(thing);
         this.subscribeTimeout = subscribeTimeout;
@@ -281,6 +292,23 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
         postCommand(channelUID, command);
     }
 
+    /**
+     * Decodes an UTF-8 encoded payload. The broker connection passes the same payload instance to all subscribers of
+     * a topic, so the last decoded payload is returned again for the other channels receiving it.
+     *
+     * @param payload The received payload
+     * @return The decoded payload
+     */
+    public String decodePayload(byte[] payload) {
+        DecodedPayload lastPayload = this.lastPayload;
+        if (lastPayload != null && lastPayload.payload() == payload) {
+            return lastPayload.value();
+        }
+        String value = new String(payload, StandardCharsets.UTF_8);
+        this.lastPayload = new DecodedPayload(payload, value);
+        return value;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
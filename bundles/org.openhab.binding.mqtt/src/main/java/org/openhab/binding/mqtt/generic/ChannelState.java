@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
  * Updates to the value are propagated via the {@link ChannelStateUpdateListener}.
  *
  * @author David Graeff - Initial contribution
+ * @author acfischer42 - Share decoded payloads between channels of a thing
  */
 @NonNullByDefault
 public class ChannelState implements MqttMessageSubscriber {
@@ -159,7 +160,9 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = channelStateUpdateListener instanceof AbstractMQTTThingHandler handler
+                ? handler.decodePayload(payload)
+                : new String(payload, StandardCharsets.UTF_8);
         if (incomingTransformation.isPresent()) {
             Optional<String> transformedValue = incomingTransformation.apply(strValue);
             if (transformedValue.isEmpty()) {
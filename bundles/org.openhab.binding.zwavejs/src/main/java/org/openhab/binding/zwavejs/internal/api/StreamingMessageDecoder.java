@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.api;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.zwavejs.internal.api.dto.Node;
+import org.openhab.binding.zwavejs.internal.api.dto.Result;
+import org.openhab.binding.zwavejs.internal.api.dto.State;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.BaseMessage;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.ResultMessage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The {@code StreamingMessageDecoder} decodes messages of the Z-Wave JS Webservice with a {@link JsonReader}.
+ *
+ * <p>
+ * The result of the {@code start_listening} command contains the state of all nodes with all their values. Instead of
+ * building the object graph of the whole state, the nodes are decoded one at a time and passed to a consumer while
+ * the message is read. The node list of the returned {@link State} is left empty. All other messages and fields are
+ * decoded as before.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+class StreamingMessageDecoder {
+
+    private static final String TYPE_RESULT = "result";
+
+    private final Gson gson;
+
+    /**
+     * @param gson the {@link Gson} instance configured for the {@link BaseMessage} subtypes
+     */
+    StreamingMessageDecoder(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Decodes a message.
+     *
+     * @param message the message as received from the Webservice
+     * @param nodeConsumer receives the nodes of a state in the order of the message
+     * @return the decoded message or <code>null</code> if the message is empty
+     * @throws IOException if the message is malformed
+     * @throws JsonParseException if the message can't be mapped to the messages
+     */
+    @Nullable
+    BaseMessage decode(String message, Consumer<Node> nodeConsumer) throws IOException, JsonParseException {
+        JsonReader reader = new JsonReader(new StringReader(message));
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return gson.fromJson(reader, BaseMessage.class);
+        }
+
+        JsonObject envelope = new JsonObject();
+        @Nullable Result result = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            // the state is only streamed if the message type is known before, which is the case for the Webservice
+            if (TYPE_RESULT.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT
+                    && envelope.get("type") instanceof JsonPrimitive type && TYPE_RESULT.equals(type.getAsString())) {
+                result = decodeResult(reader, nodeConsumer);
+            } else {
+                envelope.add(name, gson.fromJson(reader, JsonElement.class));
+            }
+        }
+        reader.endObject();
+
+        BaseMessage baseMessage = gson.fromJson(envelope, BaseMessage.class);
+        if (result != null && baseMessage instanceof ResultMessage resultMessage) {
+            resultMessage.result = result;
+        }
+        return baseMessage;
+    }
+
+    private Result decodeResult(JsonReader reader, Consumer<Node> nodeConsumer) throws IOException {
+        JsonObject fields = new JsonObject();
+        @Nullable State state = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("state".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                state = decodeState(reader, nodeConsumer);
+            } else {
+                fields.add(name, gson.fromJson(reader, JsonElement.class));
+            }
+        }
+        reader.endObject();
+
+        Result result = gson.fromJson(fields, Result.class);
+        result.state = state;
+        return result;
+    }
+
+    private State decodeState(JsonReader reader, Consumer<Node> nodeConsumer) throws IOException {
+        JsonObject fields = new JsonObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("nodes".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    Node node = gson.fromJson(reader, Node.class);
+                    if (node != null) {
+                        nodeConsumer.accept(node);
+                    }
+                }
+                reader.endArray();
+            } else {
+                fields.add(name, gson.fromJson(reader, JsonElement.class));
+            }
+        }
+        reader.endObject();
+
+        State state = gson.fromJson(fields, State.class);
+        state.nodes = new ArrayList<>();
+        return state;
+    }
+}
@@ -37,6 +37,7 @@ import org.eclipse.jetty.websocket.api.WebSocketPolicy;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.zwavejs.internal.BindingConstants;
 import org.openhab.binding.zwavejs.internal.api.adapter.InstantAdapter;
+import org.openhab.binding.zwavejs.internal.api.dto.Node;
 import org.openhab.binding.zwavejs.internal.api.dto.commands.BaseCommand;
 import org.openhab.binding.zwavejs.internal.api.dto.commands.ServerInitializeCommand;
 import org.openhab.binding.zwavejs.internal.api.dto.commands.ServerListeningCommand;
@@ -76,6 +77,7 @@ import com.google.gson.typeadapters.RuntimeTypeAdapterFactory;
  * @see BaseCommand
  *
  * @author Leo Siepel - Initial contribution
+ * @author acfischer42 - Stream the nodes of the state to the listeners
  */
 @NonNullByDefault
 public class ZWaveJSClient implements WebSocketListener {
@@ -93,6 +95,7 @@ public class ZWaveJSClient implements WebSocketListener {
     private @Nullable ScheduledFuture<?> keepAliveFuture;
     private @Nullable ScheduledFuture<?> reconnectFuture;
     private final Gson gson;
+    private final StreamingMessageDecoder decoder;
     private final Object sendLock = new Object();
     private String uri = "";
 
@@ -106,6 +109,7 @@ public class ZWaveJSClient implements WebSocketListener {
         this.gson = new GsonBuilder().setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
                 .registerTypeAdapter(Instant.class, new InstantAdapter()).registerTypeAdapterFactory(typeAdapterFactory)
                 .create();
+        this.decoder = new StreamingMessageDecoder(gson);
     }
 
     /**
@@ -270,8 +274,8 @@ public class ZWaveJSClient implements WebSocketListener {
     public void onWebSocketText(@NonNullByDefault({}) String message) {
         BaseMessage baseEvent = null;
         try {
-            baseEvent = gson.fromJson(message, BaseMessage.class);
-        } catch (JsonParseException ex) {
+            baseEvent = decoder.decode(message, this::notifyListenersOnStateNode);
+        } catch (IOException | JsonParseException | IllegalStateException ex) {
             logger.warn("Failed to parse incoming WebSocket message: {}", ex.getMessage());
             logger.trace("RECV | {}", message);
             notifyListenersOnError("Failed to parse message: " + ex.getMessage());
@@ -328,6 +332,16 @@ public class ZWaveJSClient implements WebSocketListener {
         logger.trace("RECV | {}", message);
     }
 
+    private void notifyListenersOnStateNode(Node node) {
+        for (ZwaveEventListener listener : listeners) {
+            try {
+                listener.onStateNode(node);
+            } catch (Exception e) {
+                logger.warn("Error invoking event listener on state node {}", node.nodeId, e);
+            }
+        }
+    }
+
     private void notifyListenersOnError(String errorMsg) {
         for (ZwaveEventListener listener : listeners) {
             try {
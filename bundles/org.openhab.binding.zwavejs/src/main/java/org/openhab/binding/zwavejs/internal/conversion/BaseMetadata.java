@@ -56,6 +56,7 @@ import org.slf4j.LoggerFactory;
  * It contains various properties and methods to handle metadata and state information.
  *
  * @author Leo Siepel - Initial contribution
+ * @author acfischer42 - Allow reusing the channel id of events
  */
 @NonNullByDefault
 public abstract class BaseMetadata {
@@ -149,8 +150,15 @@ public abstract class BaseMetadata {
     }
 
     public BaseMetadata(int nodeId, Event data) {
+        this(nodeId, data, generateId(data));
+    }
+
+    /**
+     * Creates the metadata of an event whose channel id was already generated by {@link #generateId(Event)}.
+     */
+    public BaseMetadata(int nodeId, Event data, String id) {
         this.nodeId = nodeId;
-        this.id = generateId(data);
+        this.id = id;
         this.value = data.args.newValue;
 
         this.min = null;
@@ -267,7 +275,7 @@ public abstract class BaseMetadata {
                 .replace(" - ", "-").replace("( ", "(").replace(" )", ")");
     }
 
-    private String normalizeString(@Nullable Object input) {
+    private static String normalizeString(@Nullable Object input) {
         if (input instanceof Number numberInput) {
             return "-" + numberInput.toString();
         } else if (input instanceof String strInput) {
@@ -276,7 +284,7 @@ public abstract class BaseMetadata {
         return "";
     }
 
-    private String generateId(String commandClassName, int endpoint, @Nullable String propertyName,
+    private static String generateId(String commandClassName, int endpoint, @Nullable String propertyName,
             @Nullable Object propertyKey) {
         String id = normalizeString(commandClassName).replaceFirst("-", "");
         String[] splitted;
@@ -299,7 +307,10 @@ public abstract class BaseMetadata {
         return id;
     }
 
-    private String generateId(Event event) {
+    /**
+     * @return the channel id the event refers to
+     */
+    public static String generateId(Event event) {
         return generateId(event.args.commandClassName, event.args.endpoint, event.args.propertyName,
                 event.args.propertyKey);
     }
@@ -68,6 +68,10 @@ public class ChannelMetadata extends BaseMetadata {
         super(nodeId, data);
     }
 
+    public ChannelMetadata(int nodeId, Event data, String id) {
+        super(nodeId, data, id);
+    }
+
     @Override
     protected String itemTypeFromMetadata(MetadataType type, @Nullable Object value, int commandClass,
             @Nullable Map<String, String> optionList) {
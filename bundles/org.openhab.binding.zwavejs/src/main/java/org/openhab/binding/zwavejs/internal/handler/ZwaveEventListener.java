@@ -13,6 +13,7 @@
 package org.openhab.binding.zwavejs.internal.handler;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.zwavejs.internal.api.dto.Node;
 import org.openhab.binding.zwavejs.internal.api.dto.messages.BaseMessage;
 import org.openhab.binding.zwavejs.internal.discovery.NodeDiscoveryService;
 
@@ -23,6 +24,7 @@ import org.openhab.binding.zwavejs.internal.discovery.NodeDiscoveryService;
  * 
  * 
  * @author Leo Siepel - Initial contribution
+ * @author acfischer42 - Receive the nodes of the state one at a time
  */
 @NonNullByDefault
 public interface ZwaveEventListener {
@@ -67,6 +69,14 @@ public interface ZwaveEventListener {
      */
     void onEvent(BaseMessage message);
 
+    /*
+     * Handles a node of the full state while the state is received. All nodes are passed before {@link #onEvent} is
+     * called with the result message of the state, whose node list is empty then.
+     *
+     * @param node the node that was received
+     */
+    void onStateNode(Node node);
+
     /*
      * This method is called when there is a connection error.
      *
@@ -15,9 +15,11 @@ package org.openhab.binding.zwavejs.internal.handler;
 import static org.openhab.binding.zwavejs.internal.BindingConstants.VIRTUAL_COMMAND_CLASS_NOTIFICATION;
 import static org.openhab.binding.zwavejs.internal.BindingConstants.VIRTUAL_NOTIFICATION_PROPERTY;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -67,6 +69,7 @@ import com.google.gson.Gson;
  * and provides controller-level operations like inclusion and exclusion.
  *
  * @author Leo Siepel - Initial contribution
+ * @author acfischer42 - Process the nodes of the state one at a time
  */
 @NonNullByDefault
 public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEventListener {
@@ -74,6 +77,7 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
     private final Logger logger = LoggerFactory.getLogger(ZwaveJSBridgeHandler.class);
     private final Map<Integer, ZwaveNodeListener> nodeListeners = new ConcurrentHashMap<>();
     private final Map<Integer, Node> lastNodeStates = new ConcurrentHashMap<>();
+    private final Set<Integer> streamedNodeIds = ConcurrentHashMap.newKeySet();
 
     protected ScheduledExecutorService executorService = scheduler;
     private @Nullable NodeDiscoveryService discoveryService;
@@ -258,34 +262,30 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
         return event;
     }
 
-    private void procesStateUpdate(State state) {
-        logger.debug("Processing state update with {} nodes", state.nodes.size());
+    @Override
+    public void onStateNode(Node node) {
+        // nodes of a state are received one at a time, the node list of the state result message is empty then
+        if (processNode(node)) {
+            streamedNodeIds.add(node.nodeId);
+        }
+    }
 
-        Map<Integer, Node> lastNodeStatesCopy = new HashMap<>(lastNodeStates);
-        final NodeDiscoveryService discovery = discoveryService;
+    private void procesStateUpdate(State state) {
+        Set<Integer> nodeIds = new HashSet<>(streamedNodeIds);
+        streamedNodeIds.clear();
         for (Node node : state.nodes) {
-            logger.debug("Node {}. Processing with label: {}", node.nodeId, node.label);
-
-            final int nodeId = node.nodeId;
-
-            final @Nullable ZwaveNodeListener nodeListener = nodeListeners.get(nodeId);
-            if (nodeListener == null) {
-                if (Status.DEAD == node.status) {
-                    logger.warn("Node {}. Ignored due to state: {}", nodeId, node.status);
-                    continue;
-                }
-                logger.trace("Node {}. No listener, pass to discovery", nodeId);
-
-                if (discovery != null) {
-                    discovery.addNodeDiscovery(node);
-                }
+            if (processNode(node)) {
+                nodeIds.add(node.nodeId);
             }
-            lastNodeStates.put(nodeId, node);
-            lastNodeStatesCopy.remove(nodeId);
         }
+        logger.debug("Processed state update with {} nodes", nodeIds.size());
 
         // Check for removed nodes
-        lastNodeStatesCopy.forEach((nodeId, node) -> {
+        final NodeDiscoveryService discovery = discoveryService;
+        for (Integer nodeId : new ArrayList<>(lastNodeStates.keySet())) {
+            if (nodeIds.contains(nodeId)) {
+                continue;
+            }
             logger.trace("Node {}. Removed state is missing update", nodeId);
             lastNodeStates.remove(nodeId);
 
@@ -300,7 +300,32 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
             if (discovery != null) {
                 discovery.removeNodeDiscovery(nodeId);
             }
-        });
+        }
+    }
+
+    /**
+     * @return {@code false} if the node is ignored
+     */
+    private boolean processNode(Node node) {
+        logger.debug("Node {}. Processing with label: {}", node.nodeId, node.label);
+
+        final int nodeId = node.nodeId;
+
+        final @Nullable ZwaveNodeListener nodeListener = nodeListeners.get(nodeId);
+        if (nodeListener == null) {
+            if (Status.DEAD == node.status) {
+                logger.warn("Node {}. Ignored due to state: {}", nodeId, node.status);
+                return false;
+            }
+            logger.trace("Node {}. No listener, pass to discovery", nodeId);
+
+            final NodeDiscoveryService discovery = discoveryService;
+            if (discovery != null) {
+                discovery.addNodeDiscovery(node);
+            }
+        }
+        lastNodeStates.put(nodeId, node);
+        return true;
     }
 
     /*
@@ -376,6 +401,7 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
 
     @Override
     public void onConnectionError(String message) {
+        streamedNodeIds.clear();
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, message);
     }
 
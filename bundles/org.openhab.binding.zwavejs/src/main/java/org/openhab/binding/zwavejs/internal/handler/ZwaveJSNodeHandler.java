@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -89,6 +90,7 @@ import org.slf4j.LoggerFactory;
  * sent to one of the channels.
  *
  * @author Leo Siepel - Initial contribution
+ * @author acfischer42 - Cache the channels of state change events
  */
 @NonNullByDefault
 public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeListener {
@@ -103,6 +105,17 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
     private Map<Integer, ColorCapability> colorCapabilities = new HashMap<>();
     protected Map<Integer, RollerShutterCapability> rollerShutterCapabilities = new HashMap<>();
 
+    // Channel ids and channels of state change events, resolved on the first event and reset when the thing changes
+    private final Map<EventKey, String> eventChannelIds = new ConcurrentHashMap<>();
+    private final Map<String, ChannelRoute> channelRoutes = new ConcurrentHashMap<>();
+
+    private record EventKey(@Nullable String commandClassName, int endpoint, @Nullable String propertyName,
+            @Nullable Object propertyKey) {
+    }
+
+    private record ChannelRoute(Channel channel, ZwaveJSChannelConfiguration config) {
+    }
+
     public ZwaveJSNodeHandler(final Thing thing, final ZwaveJSTypeGenerator typeGenerator) {
         super(thing);
         this.typeGenerator = typeGenerator;
@@ -441,6 +454,7 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
 
     @Override
     public void initialize() {
+        clearChannelRoutes();
         ZwaveJSNodeConfiguration config = this.config = getConfigAs(ZwaveJSNodeConfiguration.class);
 
         if (!config.isValid()) {
@@ -522,7 +536,10 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
         }
 
         // Handle channel state updates
-        ChannelMetadata metadata = new ChannelMetadata(getId(), event);
+        String channelId = eventChannelIds.computeIfAbsent(new EventKey(event.args.commandClassName,
+                event.args.endpoint, event.args.propertyName, event.args.propertyKey),
+                key -> ChannelMetadata.generateId(event));
+        ChannelMetadata metadata = new ChannelMetadata(getId(), event, channelId);
         if (metadata.isIgnoredCommandClass(event.args.commandClassName)) {
             return true;
         }
@@ -531,15 +548,19 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
             return true;
         }
 
-        String channelId = metadata.id;
-        logger.trace("Getting the configuration for linked channel {}", metadata.id);
-        Channel channel = thing.getChannel(metadata.id);
-        if (channel == null) {
-            logger.debug("Node {}. Channel {} not found, ignoring event", config.id, channelId);
-            return false;
+        logger.trace("Getting the configuration for linked channel {}", channelId);
+        ChannelRoute route = channelRoutes.get(channelId);
+        if (route == null) {
+            Channel channel = thing.getChannel(channelId);
+            if (channel == null) {
+                logger.debug("Node {}. Channel {} not found, ignoring event", config.id, channelId);
+                return false;
+            }
+            route = new ChannelRoute(channel, getChannelConfiguration(channel));
+            channelRoutes.put(channelId, route);
         }
-
-        ZwaveJSChannelConfiguration channelConfig = getChannelConfiguration(channel);
+        Channel channel = route.channel();
+        ZwaveJSChannelConfiguration channelConfig = route.config();
 
         RollerShutterCapability rollerShutterCapability = rollerShutterCapabilities.get(channelConfig.endpoint);
         boolean isRollerShutterRelatedCommand = (rollerShutterCapability != null
@@ -905,6 +926,17 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
         }
     }
 
+    @Override
+    protected void updateThing(Thing thing) {
+        super.updateThing(thing);
+        clearChannelRoutes();
+    }
+
+    private void clearChannelRoutes() {
+        eventChannelIds.clear();
+        channelRoutes.clear();
+    }
+
     @Override
     public void dispose() {
         Bridge bridge = getBridge();
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.openhab.binding.zwavejs.internal.DataUtil;
+import org.openhab.binding.zwavejs.internal.api.dto.Node;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.BaseMessage;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.EventMessage;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.ResultMessage;
+import org.openhab.binding.zwavejs.internal.handler.ZwaveEventListener;
+
+/**
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class ZWaveJSClientTest {
+
+    private final ZWaveJSClient client = new ZWaveJSClient(mock(WebSocketClient.class));
+    private final ZwaveEventListener listener = mock(ZwaveEventListener.class);
+
+    @Test
+    public void testStateNodesAreStreamedBeforeResult() throws IOException {
+        client.addEventListener(listener);
+        client.onWebSocketText(DataUtil.fromFile("store_4.json"));
+
+        List<Node> expectedNodes = DataUtil.fromJson("store_4.json", ResultMessage.class).result.state.nodes;
+        ArgumentCaptor<Node> nodes = ArgumentCaptor.forClass(Node.class);
+        ArgumentCaptor<BaseMessage> message = ArgumentCaptor.forClass(BaseMessage.class);
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener, times(expectedNodes.size())).onStateNode(nodes.capture());
+        inOrder.verify(listener).onEvent(message.capture());
+
+        assertEquals(expectedNodes.stream().map(node -> node.nodeId).toList(),
+                nodes.getAllValues().stream().map(node -> node.nodeId).toList());
+        assertEquals(countValues(expectedNodes), countValues(nodes.getAllValues()));
+
+        ResultMessage result = assertInstanceOf(ResultMessage.class, message.getValue());
+        assertTrue(result.success);
+        assertNotNull(result.result.state.driver);
+        assertNotNull(result.result.state.controller);
+        assertTrue(result.result.state.nodes.isEmpty());
+    }
+
+    @Test
+    public void testOtherMessagesAreDecodedAsBefore() throws IOException {
+        client.addEventListener(listener);
+        client.onWebSocketText(DataUtil.fromFile("event_node_25_switch.json"));
+
+        ArgumentCaptor<BaseMessage> message = ArgumentCaptor.forClass(BaseMessage.class);
+        verify(listener).onEvent(message.capture());
+        verify(listener, never()).onStateNode(any());
+        EventMessage event = assertInstanceOf(EventMessage.class, message.getValue());
+        assertEquals(25, event.event.nodeId);
+    }
+
+    private static int countValues(List<Node> nodes) {
+        return nodes.stream().mapToInt(node -> node.values == null ? 0 : node.values.size()).sum();
+    }
+}
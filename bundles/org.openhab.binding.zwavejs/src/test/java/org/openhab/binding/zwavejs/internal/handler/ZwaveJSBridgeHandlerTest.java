@@ -17,10 +17,14 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
 import java.io.IOException;
 import java.util.List;
 
@@ -172,6 +176,55 @@ public class ZwaveJSBridgeHandlerTest {
         }
     }
 
+    @Test
+    public void testNodesMissingFromStreamedStateAreRemoved() {
+        final Bridge thing = ZwaveJSBridgeHandlerMock.mockBridge("localhost");
+        final ThingHandlerCallback callback = mock(ThingHandlerCallback.class);
+        final ZwaveJSBridgeHandlerMock handler = ZwaveJSBridgeHandlerMock.createAndInitHandler(callback, thing);
+        final NodeDiscoveryService discoveryService = mock(NodeDiscoveryService.class);
+        doNothing().when(handler).getFullState();
+        handler.registerDiscoveryListener(discoveryService);
+        ZwaveNodeListener nodeListener = mock(ZwaveNodeListener.class);
+        when(nodeListener.getId()).thenReturn(3);
+        handler.registerNodeListener(nodeListener);
+
+        // Nodes 1, 2 and 3 are known from a previous state
+        handler.onEvent(stateResult(List.of(node(1, Status.ALIVE), node(2, Status.ALIVE), node(3, Status.ALIVE))));
+
+        // The next state streams nodes 1 and 4, the node list of the result message is empty then
+        handler.onStateNode(node(1, Status.ALIVE));
+        handler.onStateNode(node(4, Status.DEAD));
+        handler.onEvent(stateResult(List.of()));
+
+        try {
+            verify(discoveryService).removeNodeDiscovery(2);
+            verify(discoveryService).removeNodeDiscovery(3);
+            verify(nodeListener).onNodeRemoved(argThat(event -> event.nodeId == 3));
+            verify(discoveryService, never()).removeNodeDiscovery(1);
+            verify(discoveryService, never()).addNodeDiscovery(argThat(node -> node != null && node.nodeId == 4));
+            assertNotNull(handler.requestNodeDetails(1));
+            assertNull(handler.requestNodeDetails(2));
+            assertNull(handler.requestNodeDetails(4));
+        } finally {
+            handler.dispose();
+        }
+    }
+
+    private static ResultMessage stateResult(List<Node> nodes) {
+        ResultMessage resultMessage = new ResultMessage();
+        resultMessage.result = new Result();
+        resultMessage.result.state = new State();
+        resultMessage.result.state.nodes = nodes;
+        return resultMessage;
+    }
+
+    private static Node node(int id, Status status) {
+        Node node = new Node();
+        node.nodeId = id;
+        node.status = status;
+        return node;
+    }
+
     @Test
     public void testOnEventWithEventMessageNodeAdded() {
         final Bridge thing = ZwaveJSBridgeHandlerMock.mockBridge("localhost");
@@ -18,6 +18,7 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 import javax.measure.quantity.Power;
 
@@ -45,6 +46,7 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
 
 import com.google.gson.Gson;
 
@@ -219,6 +221,33 @@ public class ZwaveJSNodeHandlerTest {
         }
     }
 
+    @Test
+    public void testNode25SwitchEventUsesUpdatedChannelConfiguration() throws IOException {
+        final Thing thing = ZwaveJSNodeHandlerMock.mockThing(25);
+        final ThingHandlerCallback callback = mock(ThingHandlerCallback.class);
+        final ZwaveJSNodeHandlerMock handler = ZwaveJSNodeHandlerMock.createAndInitHandler(callback, thing,
+                "store_4.json");
+
+        EventMessage eventMessage = DataUtil.fromJson("event_node_25_switch.json", EventMessage.class);
+        handler.onNodeStateChanged(eventMessage.event);
+
+        // Invert the channel between two events
+        ChannelUID channelid = new ChannelUID("zwavejs:test-bridge:test-thing:binary-switch-value-2");
+        Channel channel = Objects.requireNonNull(handler.getThing().getChannel(channelid));
+        Configuration channelConfiguration = new Configuration(channel.getConfiguration().getProperties());
+        channelConfiguration.put("inverted", true);
+        handler.updateThing(handler.editThing().withoutChannel(channelid)
+                .withChannel(ChannelBuilder.create(channel).withConfiguration(channelConfiguration).build()).build());
+        handler.onNodeStateChanged(eventMessage.event);
+
+        try {
+            verify(callback).stateUpdated(eq(channelid), eq(OnOffType.OFF));
+            verify(callback).stateUpdated(eq(channelid), eq(OnOffType.ON));
+        } finally {
+            handler.dispose();
+        }
+    }
+
     @Test
     public void testNode25EventNodeRemoved() throws IOException {
         final Thing thing = ZwaveJSNodeHandlerMock.mockThing(25);
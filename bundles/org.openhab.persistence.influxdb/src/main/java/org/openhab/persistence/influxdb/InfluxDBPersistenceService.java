@@ -14,9 +14,9 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +24,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -53,6 +52,9 @@ import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
+import org.openhab.persistence.influxdb.internal.InfluxDBPointQueue;
+import org.openhab.persistence.influxdb.internal.InfluxDBPointQueue.OverflowPolicy;
+import org.openhab.persistence.influxdb.internal.InfluxDBPointSpool;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
@@ -86,6 +88,7 @@ import org.slf4j.LoggerFactory;
  * @author Joan Pujol Espinar - Addon rewrite refactoring code and adding
  *         support for InfluxDB 2.0. Some tag code is based from not integrated
  *         branch from Dominik Vorreiter
+ * @author acfischer42 - Bounded queue with disk spill
  */
 @NonNullByDefault
 @Component(service = { PersistenceService.class,
@@ -98,6 +101,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int REPLAY_CHUNK_SIZE = 5000;
+    private static final int REPLAY_CHUNKS_PER_COMMIT = 20;
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -110,7 +115,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxDBPointQueue pointsQueue;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,6 +127,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.pointsQueue = createPointsQueue();
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
@@ -144,6 +150,15 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    private InfluxDBPointQueue createPointsQueue() {
+        InfluxDBPointSpool spool = null;
+        if (configuration.getOverflowPolicy() == OverflowPolicy.SPILL) {
+            Path spoolFolder = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb", "spool");
+            spool = new InfluxDBPointSpool(spoolFolder, configuration.getSpillMaxSize() * 1024L * 1024L);
+        }
+        return new InfluxDBPointQueue(configuration.getQueueCapacity(), configuration.getOverflowPolicy(), spool);
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -154,9 +169,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
+        if (!pointsQueue.isEmpty() && !pointsQueue.spillAll()) {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
+        if (pointsQueue.getSpilledPoints() > 0) {
+            logger.info("InfluxDB will write {} spilled points after restart.", pointsQueue.getSpilledPoints());
+        }
+        pointsQueue.close();
 
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
@@ -212,7 +231,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
             if (pointsQueue.offer(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
+                logger.debug("Dropped {} for item {}, the queue is full", point, item);
             }
         });
     }
@@ -281,19 +300,65 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     }
 
     private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
-                influxDBRepository.disconnect();
-            } else {
+        if ((!pointsQueue.isEmpty() || pointsQueue.getSpilledPoints() > 0) && checkConnection()) {
+            List<InfluxPoint> points = pointsQueue.drain();
+            if (!points.isEmpty()) {
+                if (!influxDBRepository.write(points)) {
+                    logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
+                    pointsQueue.requeue(points);
+                    influxDBRepository.disconnect();
+                    return;
+                }
                 logger.trace("Wrote {} elements to database", points.size());
             }
+            replaySpilledPoints();
+        }
+    }
+
+    private void replaySpilledPoints() {
+        for (int i = 0; i < REPLAY_CHUNKS_PER_COMMIT; i++) {
+            InfluxDBPointSpool.Chunk chunk = pointsQueue.readSpilled(REPLAY_CHUNK_SIZE);
+            if (chunk == null) {
+                return;
+            }
+            if (!chunk.points().isEmpty() && !influxDBRepository.write(chunk.points())) {
+                logger.warn("Failed to write {} spilled elements, will retry.", chunk.points().size());
+                influxDBRepository.disconnect();
+                return;
+            }
+            pointsQueue.commitSpilled(chunk);
+            logger.trace("Wrote {} spilled elements to database", chunk.points().size());
         }
     }
 
+    /**
+     * Number of points waiting in memory.
+     */
+    public int getQueuedPoints() {
+        return pointsQueue.size();
+    }
+
+    /**
+     * Number of points spilled to disk and waiting to be written.
+     */
+    public long getSpilledPoints() {
+        return pointsQueue.getSpilledPoints();
+    }
+
+    /**
+     * Size of the spilled points on disk in bytes.
+     */
+    public long getSpilledSize() {
+        return pointsQueue.getSpilledSize();
+    }
+
+    /**
+     * Number of points dropped because the queue or the spool was full.
+     */
+    public long getDroppedPoints() {
+        return pointsQueue.getDroppedPoints();
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
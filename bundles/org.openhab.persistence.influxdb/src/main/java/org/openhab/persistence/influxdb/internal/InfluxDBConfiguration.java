@@ -18,6 +18,7 @@ import java.util.StringJoiner;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.config.core.ConfigParser;
+import org.openhab.persistence.influxdb.internal.InfluxDBPointQueue.OverflowPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,7 @@ import org.slf4j.LoggerFactory;
  * Contains this addon configurable parameters
  *
  * @author Joan Pujol Espinar - Initial contribution
+ * @author acfischer42 - Add queue, spill and compression options
  */
 @NonNullByDefault
 public class InfluxDBConfiguration {
@@ -39,6 +41,10 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String GZIP_PARAM = "gzip";
+    public static final String QUEUE_CAPACITY_PARAM = "queueCapacity";
+    public static final String OVERFLOW_POLICY_PARAM = "overflowPolicy";
+    public static final String SPILL_MAX_SIZE_PARAM = "spillMaxSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +57,10 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final boolean gzip;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int spillMaxSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +74,20 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        gzip = ConfigParser.valueAsOrElse(config.get(GZIP_PARAM), Boolean.class, true);
+        queueCapacity = ConfigParser.valueAsOrElse(config.get(QUEUE_CAPACITY_PARAM), Integer.class, 100000);
+        overflowPolicy = parseOverflowPolicy(ConfigParser.valueAsOrElse(config.get(OVERFLOW_POLICY_PARAM),
+                String.class, OverflowPolicy.SPILL.name()));
+        spillMaxSize = ConfigParser.valueAsOrElse(config.get(SPILL_MAX_SIZE_PARAM), Integer.class, 100);
+    }
+
+    private OverflowPolicy parseOverflowPolicy(String value) {
+        try {
+            return OverflowPolicy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid overflow policy {}, using {}", value, OverflowPolicy.SPILL);
+            return OverflowPolicy.SPILL;
+        }
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +178,32 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the maximum size of spilled points on disk in MB
+     */
+    public int getSpillMaxSize() {
+        return spillMaxSize;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", gzip=" + gzip + ", queueCapacity=" + queueCapacity
+                + ", overflowPolicy=" + overflowPolicy + ", spillMaxSize=" + spillMaxSize + '}';
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes {@link InfluxPoint}s directly into InfluxDB line protocol with millisecond precision.
+ *
+ * The output is the same as produced by the client libraries' point classes: tags are sorted by key, empty tags are
+ * skipped, integers get the {@code i} suffix and decimals are written in plain notation. Points without a value are
+ * skipped. The buffer is reused for all chunks, so no intermediate point objects or tag maps are created.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBLineProtocolEncoder {
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBLineProtocolEncoder.class);
+
+    private final int chunkSize;
+    private final StringBuilder buffer = new StringBuilder(64 * 1024);
+    private @Nullable String[] tagKeys = new String[8];
+
+    public InfluxDBLineProtocolEncoder() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the maximum number of lines passed to the writer at once
+     */
+    public InfluxDBLineProtocolEncoder(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Encodes the points and passes them to the writer in chunks of newline separated lines. Points that cannot be
+     * encoded are skipped.
+     *
+     * @return the number of encoded points
+     */
+    public synchronized int encode(List<InfluxPoint> points, Consumer<String> writer) {
+        buffer.setLength(0);
+        int lines = 0;
+        int total = 0;
+        for (InfluxPoint point : points) {
+            if (!appendPoint(point)) {
+                continue;
+            }
+            lines++;
+            total++;
+            if (lines >= chunkSize) {
+                writer.accept(buffer.toString());
+                buffer.setLength(0);
+                lines = 0;
+            }
+        }
+        if (lines > 0) {
+            writer.accept(buffer.toString());
+            buffer.setLength(0);
+        }
+        return total;
+    }
+
+    private boolean appendPoint(InfluxPoint point) {
+        @Nullable
+        Object value = point.getValue();
+        if (value == null) {
+            // the value is the only field, and a line without fields is invalid
+            logger.debug("Point {} has no value, discarding this datapoint", point);
+            return false;
+        }
+        int start = buffer.length();
+        if (start > 0) {
+            buffer.append('\n');
+        }
+        appendEscaped(point.getMeasurementName(), false);
+        appendTags(point.getTags());
+        buffer.append(' ');
+        appendEscaped(FIELD_VALUE_NAME, true);
+        buffer.append('=');
+        if (!appendValue(value)) {
+            logger.warn("Could not convert {}, discarding this datapoint", point);
+            buffer.setLength(start);
+            return false;
+        }
+        buffer.append(' ').append(point.getTime().toEpochMilli());
+        return true;
+    }
+
+    private void appendTags(Map<String, String> tags) {
+        int count = tags.size();
+        if (count == 0) {
+            return;
+        }
+        @Nullable
+        String[] keys = tagKeys;
+        if (keys.length < count) {
+            keys = new String[Math.max(count, keys.length * 2)];
+            tagKeys = keys;
+        }
+        int i = 0;
+        for (String key : tags.keySet()) {
+            keys[i++] = key;
+        }
+        Arrays.sort(keys, 0, count);
+        for (i = 0; i < count; i++) {
+            String key = keys[i];
+            keys[i] = null;
+            if (key == null || key.isEmpty()) {
+                continue;
+            }
+            String value = tags.get(key);
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            buffer.append(',');
+            appendEscaped(key, true);
+            buffer.append('=');
+            appendEscaped(value, true);
+        }
+    }
+
+    private boolean appendValue(@Nullable Object value) {
+        if (value instanceof BigDecimal decimal) {
+            buffer.append(decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                return false;
+            }
+            buffer.append(BigDecimal.valueOf(doubleValue).stripTrailingZeros().toPlainString());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            buffer.append(((Number) value).longValue()).append('i');
+        } else if (value instanceof Number number) {
+            buffer.append(number).append('i');
+        } else if (value instanceof Boolean booleanValue) {
+            buffer.append(booleanValue.booleanValue());
+        } else if (value instanceof String string) {
+            appendString(string);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void appendString(String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.append('\\');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    /**
+     * Escapes commas and spaces, and for keys and tag values also equal signs.
+     */
+    private void appendEscaped(String value, boolean escapeEquals) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == ' ' || (escapeEquals && c == '=')) {
+                buffer.append('\\');
+            }
+            buffer.append(c);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of {@link InfluxPoint}s waiting to be written.
+ *
+ * If the queue is full, the {@link OverflowPolicy} decides what happens: with {@link OverflowPolicy#SPILL} all queued
+ * points are moved to the {@link InfluxDBPointSpool} in one batch, the other policies drop either the oldest queued
+ * or the new point.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBPointQueue {
+
+    public enum OverflowPolicy {
+        SPILL,
+        DROP_OLDEST,
+        DROP_NEWEST
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBPointQueue.class);
+
+    private final Deque<InfluxPoint> points = new ArrayDeque<>();
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final @Nullable InfluxDBPointSpool spool;
+    private long droppedPoints = 0;
+
+    /**
+     * @param capacity the maximum number of points kept in memory
+     * @param overflowPolicy the policy if the queue is full
+     * @param spool the spool for {@link OverflowPolicy#SPILL}, if {@code null} the oldest points are dropped instead
+     */
+    public InfluxDBPointQueue(int capacity, OverflowPolicy overflowPolicy, @Nullable InfluxDBPointSpool spool) {
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.spool = spool;
+    }
+
+    /**
+     * Adds a point to the queue.
+     *
+     * @return {@code false} if the point was dropped
+     */
+    public synchronized boolean offer(InfluxPoint point) {
+        if (points.size() >= capacity && !spill()) {
+            droppedPoints++;
+            if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                return false;
+            }
+            // the oldest points are also dropped if spilling is not possible
+            points.pollFirst();
+        }
+        points.addLast(point);
+        return true;
+    }
+
+    /**
+     * Removes all points kept in memory.
+     */
+    public synchronized List<InfluxPoint> drain() {
+        List<InfluxPoint> drained = new ArrayList<>(points);
+        points.clear();
+        return drained;
+    }
+
+    /**
+     * Returns points that failed to be written. They are older than the queued points, so they are queued before them
+     * and the overflow policy applies to the oldest points first.
+     */
+    public synchronized void requeue(List<InfluxPoint> failed) {
+        List<InfluxPoint> queued = new ArrayList<>(points);
+        points.clear();
+        failed.forEach(this::offer);
+        queued.forEach(this::offer);
+    }
+
+    /**
+     * Moves all points kept in memory to the spool, e.g. before shutdown.
+     *
+     * @return {@code true} if the memory queue is empty afterwards
+     */
+    public synchronized boolean spillAll() {
+        return points.isEmpty() || spill();
+    }
+
+    private boolean spill() {
+        InfluxDBPointSpool spool = this.spool;
+        if (spool == null || overflowPolicy != OverflowPolicy.SPILL) {
+            return false;
+        }
+        try {
+            spool.append(new ArrayList<>(points));
+            logger.debug("Spilled {} points to disk", points.size());
+            points.clear();
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to spill {} points to disk: {}", points.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the next chunk of spilled points, which must be confirmed by
+     * {@link #commitSpilled(InfluxDBPointSpool.Chunk)} once written.
+     *
+     * @return the chunk or {@code null} if no points are spilled
+     */
+    public @Nullable InfluxDBPointSpool.Chunk readSpilled(int maxPoints) {
+        InfluxDBPointSpool spool = this.spool;
+        if (spool == null) {
+            return null;
+        }
+        try {
+            return spool.read(maxPoints);
+        } catch (IOException e) {
+            logger.warn("Failed to read spilled points: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void commitSpilled(InfluxDBPointSpool.Chunk chunk) {
+        InfluxDBPointSpool spool = this.spool;
+        if (spool != null) {
+            spool.commit(chunk);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return points.isEmpty();
+    }
+
+    /**
+     * Number of points kept in memory.
+     */
+    public synchronized int size() {
+        return points.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of points waiting on disk.
+     */
+    public long getSpilledPoints() {
+        InfluxDBPointSpool spool = this.spool;
+        return spool != null ? spool.getPoints() : 0;
+    }
+
+    /**
+     * Size of the spilled points on disk in bytes.
+     */
+    public long getSpilledSize() {
+        InfluxDBPointSpool spool = this.spool;
+        return spool != null ? spool.getSize() : 0;
+    }
+
+    /**
+     * Number of points dropped by the overflow policy or because the spool was full.
+     */
+    public synchronized long getDroppedPoints() {
+        InfluxDBPointSpool spool = this.spool;
+        return droppedPoints + (spool != null ? spool.getDroppedPoints() : 0);
+    }
+
+    public void close() {
+        InfluxDBPointSpool spool = this.spool;
+        if (spool != null) {
+            spool.close();
+        }
+    }
+}
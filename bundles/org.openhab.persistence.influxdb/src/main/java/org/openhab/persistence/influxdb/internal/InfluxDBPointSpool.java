@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only spool for {@link InfluxPoint}s that could not be kept in memory.
+ *
+ * Points are appended to segment files, which are read back memory-mapped in chunks once the database is available
+ * again. A segment is deleted when all of its points have been written. If the spool exceeds its maximum size, the
+ * oldest segment is dropped.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBPointSpool {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final long MAX_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_DECIMAL = 2;
+    private static final byte VALUE_LONG = 3;
+    private static final byte VALUE_INTEGER = 4;
+    private static final byte VALUE_DOUBLE = 5;
+    private static final byte VALUE_BOOLEAN = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBPointSpool.class);
+
+    private final Path directory;
+    private final long maxSize;
+    private final long segmentSize;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private @Nullable FileChannel writeChannel;
+    private long nextSequence = 0;
+    private long size = 0;
+    private long points = 0;
+    private long droppedPoints = 0;
+
+    /**
+     * A chunk of points read from the spool, must be confirmed by {@link #commit(Chunk)} once the points are written.
+     */
+    public record Chunk(List<InfluxPoint> points, long sequence, long endPosition) {
+    }
+
+    private static class Segment {
+        private final Path path;
+        private final long sequence;
+        private long size;
+        private long readPosition;
+        private long points;
+
+        private Segment(Path path, long sequence) {
+            this.path = path;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * @param directory the directory of the segment files, created on first use
+     * @param maxSize the maximum size of all segments in bytes
+     */
+    public InfluxDBPointSpool(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.segmentSize = Math.max(1024, Math.min(MAX_SEGMENT_SIZE, maxSize / 4));
+        loadSegments();
+    }
+
+    private void loadSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(this::isSegment).sorted().forEach(path -> {
+                Segment segment = new Segment(path, sequenceOf(path));
+                try {
+                    segment.size = Files.size(path);
+                    segment.points = countPoints(segment);
+                    segments.add(segment);
+                    size += segment.size;
+                    points += segment.points;
+                    nextSequence = Math.max(nextSequence, segment.sequence + 1);
+                } catch (IOException e) {
+                    logger.warn("Failed to read spooled points from '{}': {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to list spooled points in '{}': {}", directory, e.getMessage());
+        }
+        if (points > 0) {
+            logger.info("Found {} spooled points in '{}', they will be written when InfluxDB is available", points,
+                    directory);
+        }
+    }
+
+    private boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Appends the points to the spool and syncs them to disk.
+     */
+    public synchronized void append(List<InfluxPoint> newPoints) throws IOException {
+        if (newPoints.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(newPoints.size() * 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (InfluxPoint point : newPoints) {
+            writePoint(out, point);
+        }
+        out.flush();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+        while (size + buffer.remaining() > maxSize && !segments.isEmpty()) {
+            dropOldestSegment();
+        }
+
+        Segment segment = segments.peekLast();
+        FileChannel channel = writeChannel;
+        if (segment == null || channel == null || segment.size >= segmentSize) {
+            segment = startSegment();
+            channel = writeChannel;
+        }
+        if (channel == null) {
+            throw new IOException("Spool segment is not writable");
+        }
+        int length = buffer.remaining();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // a partially written record is beyond the known segment size and never read, start a new segment
+            closeWriteChannel();
+            throw e;
+        }
+        segment.size += length;
+        segment.points += newPoints.size();
+        size += length;
+        points += newPoints.size();
+    }
+
+    private Segment startSegment() throws IOException {
+        closeWriteChannel();
+        Files.createDirectories(directory);
+        long sequence = nextSequence++;
+        Path path = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        writeChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        Segment segment = new Segment(path, sequence);
+        segments.add(segment);
+        return segment;
+    }
+
+    private void dropOldestSegment() {
+        Segment segment = segments.peekFirst();
+        if (segment != null) {
+            logger.warn("InfluxDB spool exceeds its maximum size, dropping {} points", segment.points);
+            droppedPoints += segment.points;
+            removeOldestSegment();
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        size -= segment.size;
+        points -= segment.points;
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool segment '{}': {}", segment.path, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads up to {@code maxPoints} points from the oldest segment.
+     *
+     * @return the chunk or {@code null} if the spool is empty
+     */
+    public synchronized @Nullable Chunk read(int maxPoints) throws IOException {
+        while (true) {
+            Segment segment = segments.peekFirst();
+            if (segment == null) {
+                return null;
+            }
+            if (segment.readPosition >= segment.size || segment.points == 0) {
+                removeOldestSegment();
+                continue;
+            }
+            List<InfluxPoint> chunk = new ArrayList<>((int) Math.min(segment.points, maxPoints));
+            try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, segment.readPosition,
+                        segment.size - segment.readPosition);
+                while (chunk.size() < maxPoints && buffer.hasRemaining()) {
+                    int start = buffer.position();
+                    try {
+                        chunk.add(readPoint(buffer));
+                    } catch (BufferUnderflowException | IllegalArgumentException e) {
+                        // incomplete record at the end of a segment, e.g. after a crash
+                        logger.debug("Skipping incomplete record in spool segment '{}'", segment.path);
+                        buffer.position(start);
+                        points -= segment.points - chunk.size();
+                        size -= segment.size - (segment.readPosition + start);
+                        segment.points = chunk.size();
+                        segment.size = segment.readPosition + start;
+                        break;
+                    }
+                }
+                return new Chunk(chunk, segment.sequence, segment.readPosition + buffer.position());
+            }
+        }
+    }
+
+    /**
+     * Confirms that the points of the chunk have been written.
+     */
+    public synchronized void commit(Chunk chunk) {
+        Segment segment = segments.peekFirst();
+        if (segment == null || segment.sequence != chunk.sequence()) {
+            // the segment was dropped in the meantime
+            return;
+        }
+        segment.readPosition = chunk.endPosition();
+        segment.points -= chunk.points().size();
+        points -= chunk.points().size();
+        if (segment.readPosition >= segment.size) {
+            removeOldestSegment();
+        }
+    }
+
+    private void removeOldestSegment() {
+        Segment segment = segments.pollFirst();
+        if (segment != null) {
+            if (segments.isEmpty()) {
+                closeWriteChannel();
+            }
+            deleteSegment(segment);
+        }
+    }
+
+    /**
+     * Number of spooled points waiting to be written.
+     */
+    public synchronized long getPoints() {
+        return points;
+    }
+
+    /**
+     * Size of all segment files in bytes.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized long getDroppedPoints() {
+        return droppedPoints;
+    }
+
+    public synchronized void close() {
+        closeWriteChannel();
+    }
+
+    private void closeWriteChannel() {
+        FileChannel channel = writeChannel;
+        writeChannel = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close spool segment: {}", e.getMessage());
+            }
+        }
+    }
+
+    private long countPoints(Segment segment) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+            if (segment.size == 0) {
+                return 0;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.size);
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void writePoint(DataOutputStream out, InfluxPoint point) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream record = new DataOutputStream(bytes);
+        writeString(record, point.getMeasurementName());
+        record.writeLong(point.getTime().getEpochSecond());
+        record.writeInt(point.getTime().getNano());
+        writeValue(record, point.getValue());
+        Map<String, String> tags = point.getTags();
+        record.writeInt(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeString(record, tag.getKey());
+            writeString(record, tag.getValue());
+        }
+        record.flush();
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    private InfluxPoint readPoint(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid record length " + length);
+        }
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(buffer));
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        builder.withTime(Instant.ofEpochSecond(seconds, nanos));
+        builder.withValue(readValue(buffer));
+        int tagCount = buffer.getInt();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(readString(buffer), readString(buffer));
+        }
+        return builder.build();
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof BigDecimal decimal) {
+            out.writeByte(VALUE_DECIMAL);
+            writeString(out, decimal.toString());
+        } else if (value instanceof Long longValue) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(VALUE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else {
+            out.writeByte(VALUE_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private Object readValue(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case VALUE_DECIMAL -> new BigDecimal(readString(buffer));
+            case VALUE_LONG -> buffer.getLong();
+            case VALUE_INTEGER -> buffer.getInt();
+            case VALUE_DOUBLE -> buffer.getDouble();
+            case VALUE_BOOLEAN -> buffer.get() != 0;
+            case VALUE_STRING -> readString(buffer);
+            default -> throw new IllegalArgumentException("Unknown value type " + type);
+        };
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
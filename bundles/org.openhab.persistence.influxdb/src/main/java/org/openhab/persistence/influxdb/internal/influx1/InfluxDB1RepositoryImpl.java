@@ -20,7 +20,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,14 +27,13 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.InfluxDB;
 import org.influxdb.InfluxDBException;
 import org.influxdb.InfluxDBFactory;
-import org.influxdb.dto.BatchPoints;
-import org.influxdb.dto.Point;
 import org.influxdb.dto.Pong;
 import org.influxdb.dto.Query;
 import org.influxdb.dto.QueryResult;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
+import org.openhab.persistence.influxdb.internal.InfluxDBLineProtocolEncoder;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
@@ -51,12 +49,14 @@ import com.influxdb.exceptions.InfluxException;
  *         from
  *         {@link org.openhab.persistence.influxdb.InfluxDBPersistenceService}
  *         where it was in previous version
+ * @author acfischer42 - Write line protocol directly
  */
 @NonNullByDefault
 public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     private final Logger logger = LoggerFactory.getLogger(InfluxDB1RepositoryImpl.class);
     private final InfluxDBConfiguration configuration;
     private final FilterCriteriaQueryCreator queryCreator;
+    private final InfluxDBLineProtocolEncoder encoder = new InfluxDBLineProtocolEncoder();
     private @Nullable InfluxDB client;
 
     public InfluxDB1RepositoryImpl(InfluxDBConfiguration configuration,
@@ -77,7 +77,9 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                     configuration.getPassword());
             createdClient.setDatabase(configuration.getDatabaseName());
             createdClient.setRetentionPolicy(configuration.getRetentionPolicy());
-            createdClient.enableBatch(200, 100, TimeUnit.MILLISECONDS);
+            if (configuration.isGzip()) {
+                createdClient.enableGzip();
+            }
             this.client = createdClient;
         } catch (InfluxException | InfluxDBException e) {
             logger.debug("Connection failed", e);
@@ -126,11 +128,9 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
             return false;
         }
         try {
-            List<Point> points = influxPoints.stream().map(this::convertPointToClientFormat).filter(Optional::isPresent)
-                    .map(Optional::get).toList();
-            BatchPoints batchPoints = BatchPoints.database(configuration.getDatabaseName())
-                    .retentionPolicy(configuration.getRetentionPolicy()).points(points).build();
-            currentClient.write(batchPoints);
+            encoder.encode(influxPoints,
+                    lines -> currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(),
+                            InfluxDB.ConsistencyLevel.ONE, TimeUnit.MILLISECONDS, lines));
         } catch (InfluxException | InfluxDBException e) {
             logger.debug("Writing to database failed", e);
             return false;
@@ -144,26 +144,6 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
         return false;
     }
 
-    private Optional<Point> convertPointToClientFormat(InfluxPoint point) {
-        Point.Builder clientPoint = Point.measurement(point.getMeasurementName()).time(point.getTime().toEpochMilli(),
-                TimeUnit.MILLISECONDS);
-        Object value = point.getValue();
-        if (value instanceof String string) {
-            clientPoint.addField(FIELD_VALUE_NAME, string);
-        } else if (value instanceof Number number) {
-            clientPoint.addField(FIELD_VALUE_NAME, number);
-        } else if (value instanceof Boolean boolean1) {
-            clientPoint.addField(FIELD_VALUE_NAME, boolean1);
-        } else if (value == null) {
-            clientPoint.addField(FIELD_VALUE_NAME, "null");
-        } else {
-            logger.warn("Could not convert {}, discarding this datapoint", point);
-            return Optional.empty();
-        }
-        point.getTags().forEach(clientPoint::tag);
-        return Optional.of(clientPoint.build());
-    }
-
     @Override
     public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias) {
         try {
@@ -22,7 +22,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -32,6 +31,7 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBConstants;
+import org.openhab.persistence.influxdb.internal.InfluxDBLineProtocolEncoder;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
@@ -43,10 +43,9 @@ import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.QueryApi;
-import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.Ready;
 import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 import com.influxdb.exceptions.InfluxException;
 import com.influxdb.query.FluxTable;
 
@@ -54,6 +53,7 @@ import com.influxdb.query.FluxTable;
  * Implementation of {@link InfluxDBRepository} for InfluxDB 2.0
  *
  * @author Joan Pujol Espinar - Initial contribution
+ * @author acfischer42 - Write line protocol directly
  */
 @NonNullByDefault
 public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
@@ -61,10 +61,11 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     private final InfluxDBConfiguration configuration;
     private final InfluxDBMetadataService influxDBMetadataService;
     private final FilterCriteriaQueryCreator queryCreator;
+    private final InfluxDBLineProtocolEncoder encoder = new InfluxDBLineProtocolEncoder();
 
     private @Nullable InfluxDBClient client;
     private @Nullable QueryApi queryAPI;
-    private @Nullable WriteApi writeAPI;
+    private @Nullable WriteApiBlocking writeAPI;
     private @Nullable DeleteApi deleteAPI;
 
     public InfluxDB2RepositoryImpl(InfluxDBConfiguration configuration,
@@ -93,10 +94,13 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         InfluxDBClientOptions clientOptions = optionsBuilder.build();
 
         final InfluxDBClient createdClient = InfluxDBClientFactory.create(clientOptions);
+        if (configuration.isGzip()) {
+            createdClient.enableGzip();
+        }
         this.client = createdClient;
 
         queryAPI = createdClient.getQueryApi();
-        writeAPI = createdClient.makeWriteApi();
+        writeAPI = createdClient.getWriteApiBlocking();
         deleteAPI = createdClient.getDeleteApi();
 
         logger.debug("Successfully connected to InfluxDB. Instance pingable={}", createdClient.ping());
@@ -141,14 +145,12 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
 
     @Override
     public boolean write(List<InfluxPoint> influxPoints) {
-        final WriteApi currentWriteAPI = writeAPI;
+        final WriteApiBlocking currentWriteAPI = writeAPI;
         if (currentWriteAPI == null) {
             return false;
         }
         try {
-            List<Point> clientPoints = influxPoints.stream().map(this::convertPointToClientFormat)
-                    .filter(Optional::isPresent).map(Optional::get).toList();
-            currentWriteAPI.writePoints(clientPoints);
+            encoder.encode(influxPoints, lines -> currentWriteAPI.writeRecord(WritePrecision.MS, lines));
         } catch (InfluxException | InfluxDBIOException e) {
             logger.debug("Writing to database failed", e);
             return false;
@@ -192,26 +194,6 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         return true;
     }
 
-    private Optional<Point> convertPointToClientFormat(InfluxPoint point) {
-        Point clientPoint = Point.measurement(point.getMeasurementName()).time(point.getTime(), WritePrecision.MS);
-        @Nullable
-        Object value = point.getValue();
-        if (value instanceof String string) {
-            clientPoint.addField(FIELD_VALUE_NAME, string);
-        } else if (value instanceof Number number) {
-            clientPoint.addField(FIELD_VALUE_NAME, number);
-        } else if (value instanceof Boolean boolean1) {
-            clientPoint.addField(FIELD_VALUE_NAME, boolean1);
-        } else if (value == null) {
-            clientPoint.addField(FIELD_VALUE_NAME, (String) null);
-        } else {
-            logger.warn("Could not convert {}, discarding this datapoint)", clientPoint);
-            return Optional.empty();
-        }
-        point.getTags().forEach(clientPoint::addTag);
-        return Optional.of(clientPoint);
-    }
-
     @Override
     public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias) {
         try {
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link InfluxDBLineProtocolEncoder}.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBLineProtocolEncoderTest {
+    private static final Instant TIME = Instant.ofEpochMilli(1558302027124L);
+
+    @Test
+    public void valuesAreEncodedWithTheirType() {
+        assertThat(encode(point("m", new BigDecimal("21.50"))), is("m value=21.5 1558302027124"));
+        assertThat(encode(point("m", new BigDecimal("1E+3"))), is("m value=1000 1558302027124"));
+        assertThat(encode(point("m", BigDecimal.ZERO.setScale(2))), is("m value=0 1558302027124"));
+        assertThat(encode(point("m", 1)), is("m value=1i 1558302027124"));
+        assertThat(encode(point("m", 1558302027124L)), is("m value=1558302027124i 1558302027124"));
+        assertThat(encode(point("m", 0.25)), is("m value=0.25 1558302027124"));
+        assertThat(encode(point("m", true)), is("m value=true 1558302027124"));
+        assertThat(encode(point("m", "say \"hi\" \\o/")), is("m value=\"say \\\"hi\\\" \\\\o/\" 1558302027124"));
+    }
+
+    @Test
+    public void tagsAreSortedAndEscaped() {
+        InfluxPoint point = InfluxPoint.newBuilder("my measurement,1").withTime(TIME).withValue(1)
+                .withTag("type", "Number").withTag("item", "a=b c,d").withTag("label", "").build();
+
+        assertThat(encode(point), is("my\\ measurement\\,1,item=a\\=b\\ c\\,d,type=Number value=1i 1558302027124"));
+    }
+
+    @Test
+    public void invalidPointsAreSkipped() {
+        List<String> chunks = new ArrayList<>();
+        int encoded = new InfluxDBLineProtocolEncoder().encode(
+                List.of(point("a", 1), point("b", Double.NaN), point("c", new Object()),
+                        InfluxPoint.newBuilder("n").withTime(TIME).build(), point("d", 2)),
+                chunks::add);
+
+        assertThat(encoded, is(2));
+        assertThat(chunks, contains("a value=1i 1558302027124\nd value=2i 1558302027124"));
+    }
+
+    @Test
+    public void pointsAreSplitIntoChunks() {
+        List<InfluxPoint> points = IntStream.range(0, 7).mapToObj(i -> point("m" + i, i)).toList();
+        List<String> chunks = new ArrayList<>();
+        InfluxDBLineProtocolEncoder encoder = new InfluxDBLineProtocolEncoder(3);
+
+        assertThat(encoder.encode(points, chunks::add), is(7));
+        assertThat(chunks, hasSize(3));
+        assertThat(chunks.get(0).split("\n"), arrayWithSize(3));
+        assertThat(chunks.get(2), is("m6 value=6i 1558302027124"));
+
+        // the buffer is reused for the next batch
+        chunks.clear();
+        encoder.encode(List.of(point("x", 1)), chunks::add);
+        assertThat(chunks, contains("x value=1i 1558302027124"));
+    }
+
+    private static InfluxPoint point(String measurement, Object value) {
+        return InfluxPoint.newBuilder(measurement).withTime(TIME).withValue(value).build();
+    }
+
+    private static String encode(InfluxPoint point) {
+        List<String> chunks = new ArrayList<>();
+        new InfluxDBLineProtocolEncoder().encode(List.of(point), chunks::add);
+        return String.join("", chunks);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.persistence.influxdb.internal.InfluxDBPointQueue.OverflowPolicy;
+
+/**
+ * Tests the {@link InfluxDBPointQueue} and {@link InfluxDBPointSpool}.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBPointQueueTest {
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00.123456789Z");
+
+    public @TempDir @NonNullByDefault({}) Path folder;
+
+    @Test
+    public void dropNewestRejectsPointsWhenFull() {
+        InfluxDBPointQueue queue = new InfluxDBPointQueue(3, OverflowPolicy.DROP_NEWEST, null);
+        IntStream.range(0, 5).forEach(i -> queue.offer(point(i)));
+
+        assertThat(values(queue.drain()), contains(0, 1, 2));
+        assertThat(queue.getDroppedPoints(), is(2L));
+    }
+
+    @Test
+    public void dropOldestKeepsNewestPoints() {
+        InfluxDBPointQueue queue = new InfluxDBPointQueue(3, OverflowPolicy.DROP_OLDEST, null);
+        IntStream.range(0, 5).forEach(i -> queue.offer(point(i)));
+
+        assertThat(values(queue.drain()), contains(2, 3, 4));
+        assertThat(queue.getDroppedPoints(), is(2L));
+    }
+
+    @Test
+    public void requeuedPointsAreOlderThanQueuedPoints() {
+        InfluxDBPointQueue queue = new InfluxDBPointQueue(3, OverflowPolicy.DROP_OLDEST, null);
+        queue.offer(point(3));
+        queue.requeue(List.of(point(0), point(1), point(2)));
+
+        assertThat(values(queue.drain()), contains(1, 2, 3));
+    }
+
+    @Test
+    public void overflowIsSpilledAndReplayedInChunks() throws Exception {
+        InfluxDBPointQueue queue = new InfluxDBPointQueue(10, OverflowPolicy.SPILL,
+                new InfluxDBPointSpool(folder, 1024 * 1024));
+        IntStream.range(0, 25).forEach(i -> queue.offer(point(i)));
+
+        assertThat(queue.size(), is(5));
+        assertThat(queue.getSpilledPoints(), is(20L));
+        assertThat(queue.getDroppedPoints(), is(0L));
+
+        InfluxDBPointSpool.Chunk chunk = Objects.requireNonNull(queue.readSpilled(15));
+        assertThat(values(chunk.points()), is(IntStream.range(0, 15).boxed().toList()));
+        queue.commitSpilled(chunk);
+        chunk = Objects.requireNonNull(queue.readSpilled(15));
+        assertThat(values(chunk.points()), contains(15, 16, 17, 18, 19));
+        queue.commitSpilled(chunk);
+
+        assertThat(queue.readSpilled(15), is(nullValue()));
+        assertThat(queue.getSpilledPoints(), is(0L));
+        assertThat(values(queue.drain()), contains(20, 21, 22, 23, 24));
+    }
+
+    @Test
+    public void uncommittedChunkIsReadAgain() throws Exception {
+        InfluxDBPointSpool spool = new InfluxDBPointSpool(folder, 1024 * 1024);
+        spool.append(List.of(point(0), point(1)));
+
+        assertThat(values(Objects.requireNonNull(spool.read(10)).points()), contains(0, 1));
+        assertThat(values(Objects.requireNonNull(spool.read(10)).points()), contains(0, 1));
+    }
+
+    @Test
+    public void spilledPointsSurviveRestart() throws Exception {
+        InfluxDBPointSpool spool = new InfluxDBPointSpool(folder, 1024 * 1024);
+        InfluxPoint point = InfluxPoint.newBuilder("measurement").withTime(START)
+                .withValue(new BigDecimal("-12.3450")).withTag("item", "äöü").withTag("type", "Number").build();
+        spool.append(List.of(point, point(1)));
+        spool.append(List.of(InfluxPoint.newBuilder("text").withTime(START).withValue("a\nb").build(),
+                InfluxPoint.newBuilder("time").withTime(START).withValue(1234567890123L).build()));
+        spool.close();
+
+        InfluxDBPointSpool restarted = new InfluxDBPointSpool(folder, 1024 * 1024);
+        assertThat(restarted.getPoints(), is(4L));
+        List<InfluxPoint> points = Objects.requireNonNull(restarted.read(10)).points();
+        assertThat(points, hasSize(4));
+        assertThat(points.get(0).getMeasurementName(), is("measurement"));
+        assertThat(points.get(0).getTime(), is(START));
+        assertEquals(new BigDecimal("-12.3450"), points.get(0).getValue());
+        assertThat(points.get(0).getTags(), is(Map.of("item", "äöü", "type", "Number")));
+        assertEquals(1, points.get(1).getValue());
+        assertEquals("a\nb", points.get(2).getValue());
+        assertEquals(1234567890123L, points.get(3).getValue());
+    }
+
+    @Test
+    public void oldestSegmentsAreDroppedWhenSpoolIsFull() throws Exception {
+        InfluxDBPointSpool spool = new InfluxDBPointSpool(folder, 4096);
+        for (int i = 0; i < 100; i++) {
+            spool.append(List.of(point(i)));
+        }
+
+        assertThat(spool.getSize(), is(lessThanOrEqualTo(4096L)));
+        assertThat(spool.getDroppedPoints(), is(greaterThan(0L)));
+        assertThat(spool.getPoints() + spool.getDroppedPoints(), is(100L));
+        List<InfluxPoint> points = Objects.requireNonNull(spool.read(100)).points();
+        assertEquals((int) spool.getDroppedPoints(), points.getFirst().getValue());
+    }
+
+    private static InfluxPoint point(int value) {
+        return InfluxPoint.newBuilder("item").withTime(START.plusSeconds(value)).withValue(value)
+                .withTag("item", "item").build();
+    }
+
+    private static List<Integer> values(List<InfluxPoint> points) {
+        return points.stream().map(point -> (Integer) point.getValue()).toList();
+    }
+}
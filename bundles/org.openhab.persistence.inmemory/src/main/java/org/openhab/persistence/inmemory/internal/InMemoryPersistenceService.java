@@ -14,17 +14,14 @@ package org.openhab.persistence.inmemory.internal;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -69,7 +66,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
-    private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
+    private final Map<String, InMemoryTimeSeries> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
 
     @Activate
@@ -82,17 +79,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
 
-        persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
-            lock.lock();
-            try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
-            } finally {
-                lock.unlock();
-            }
-        });
+        persistMap.values().forEach(timeSeries -> timeSeries.trim(maxEntries));
     }
 
     @Deactivate
@@ -143,19 +130,13 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        InMemoryTimeSeries timeSeries = persistMap.get(itemName);
+        if (timeSeries == null) {
             return false;
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
-        } finally {
-            lock.unlock();
-        }
+        Predicate<State> stateFilter = stateFilter(filter);
+        timeSeries.remove(filter.getBeginDate(), filter.getEndDate(), stateFilter != null ? stateFilter : s -> true);
         return true;
     }
 
@@ -166,24 +147,13 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        InMemoryTimeSeries timeSeries = persistMap.get(itemName);
+        if (timeSeries == null) {
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
-        try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
-        } finally {
-            lock.unlock();
-        }
+        return timeSeries.query(itemName, filter.getBeginDate(), filter.getEndDate(),
+                filter.getOrdering() == FilterCriteria.Ordering.ASCENDING, stateFilter(filter));
     }
 
     @Override
@@ -192,56 +162,32 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return List.of(PersistenceStrategy.Globals.FORECAST);
     }
 
-    private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
-        lock.lock();
-        try {
-            String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
-            return new PersistenceItemInfo() {
-
-                @Override
-                public String getName() {
-                    return name;
-                }
-
-                @Override
-                public @Nullable Integer getCount() {
-                    return count;
-                }
-
-                @Override
-                public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
-                }
+    private PersistenceItemInfo toItemInfo(Map.Entry<String, InMemoryTimeSeries> itemEntry) {
+        String name = itemEntry.getKey();
+        InMemoryTimeSeries timeSeries = itemEntry.getValue();
+        Integer count = timeSeries.size();
+        Instant earliest = timeSeries.getEarliest();
+        Instant latest = timeSeries.getLatest();
+        return new PersistenceItemInfo() {
 
-                @Override
-                public @Nullable Date getLatest() {
-                    return Date.from(latest);
-                }
-            };
-        } finally {
-            lock.unlock();
-        }
-    }
+            @Override
+            public String getName() {
+                return name;
+            }
 
-    private HistoricItem toHistoricItem(String itemName, PersistEntry entry) {
-        return new HistoricItem() {
             @Override
-            public ZonedDateTime getTimestamp() {
-                return entry.timestamp();
+            public @Nullable Integer getCount() {
+                return count;
             }
 
             @Override
-            public State getState() {
-                return entry.state();
+            public @Nullable Date getEarliest() {
+                return earliest != null ? Date.from(earliest) : null;
             }
 
             @Override
-            public String getName() {
-                return itemName;
+            public @Nullable Date getLatest() {
+                return latest != null ? Date.from(latest) : null;
             }
         };
     }
@@ -251,71 +197,50 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
-
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
-            }
-        } finally {
-            lock.unlock();
-        }
+        persistMap.computeIfAbsent(itemName, k -> new InMemoryTimeSeries()).add(timestamp, state, maxEntries);
     }
 
+    /**
+     * Creates a predicate for the state condition of the filter, the time range is handled by the
+     * {@link InMemoryTimeSeries} itself.
+     *
+     * @return the predicate or {@code null} if the filter has no state condition
+     */
     @SuppressWarnings("unchecked")
-    private boolean applies(PersistEntry entry, FilterCriteria filter) {
-        ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
-        ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
-
+    private @Nullable Predicate<State> stateFilter(FilterCriteria filter) {
         State refState = filter.getState();
         FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
             // no state filter
-            return true;
+            return null;
         }
 
         if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
+            return state -> state.equals(refState);
         }
 
         if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
+            return state -> !state.equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
-            if (operator == FilterCriteria.Operator.GT) {
-                return comparableState.compareTo(refState) > 0;
-            }
-            if (operator == FilterCriteria.Operator.GTE) {
-                return comparableState.compareTo(refState) >= 0;
-            }
-            if (operator == FilterCriteria.Operator.LT) {
-                return comparableState.compareTo(refState) < 0;
-            }
-            if (operator == FilterCriteria.Operator.LTE) {
-                return comparableState.compareTo(refState) <= 0;
+        return state -> {
+            if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
+                if (operator == FilterCriteria.Operator.GT) {
+                    return comparableState.compareTo(refState) > 0;
+                }
+                if (operator == FilterCriteria.Operator.GTE) {
+                    return comparableState.compareTo(refState) >= 0;
+                }
+                if (operator == FilterCriteria.Operator.LT) {
+                    return comparableState.compareTo(refState) < 0;
+                }
+                if (operator == FilterCriteria.Operator.LTE) {
+                    return comparableState.compareTo(refState) <= 0;
+                }
+            } else {
+                logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
             }
-        } else {
-            logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
-        }
-        return true;
-    }
-
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
-
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+            return true;
+        };
     }
 }
@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryTimeSeries} stores the states of a single item in a columnar ring buffer.
+ *
+ * Timestamps are kept as epoch nanoseconds in a {@code long[]}, sorted ascending. Numeric states that can be
+ * represented by a {@code double} without loss are kept in a {@code double[]}, all other states are kept in a
+ * reference counted dictionary, so that repeated states like {@code ON}/{@code OFF} share one instance.
+ * Range queries use binary search on the timestamp column.
+ *
+ * Writers are serialized by a {@link StampedLock}, readers first try an optimistic read and only fall back to the
+ * read lock if a write happened concurrently.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryTimeSeries {
+    private static final int INITIAL_CAPACITY = 16;
+    // negative codes mark numeric states and carry the scale of the value: code = -1 - (scale + SCALE_OFFSET)
+    private static final int SCALE_OFFSET = 64;
+    private static final int NOT_NUMERIC = 0;
+    // unit of a numeric column holding DecimalType states
+    private static final Object NO_UNIT = new Object();
+
+    private final StampedLock lock = new StampedLock();
+
+    // ring buffer, logical index i is stored at physical index (head + i) % timestamps.length
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int[] codes = new int[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+    private ZoneId zone = ZoneId.systemDefault();
+
+    // unit of all states in the numeric column, NO_UNIT for DecimalType, null if not yet known
+    private @Nullable Object numericUnit;
+
+    // dictionary for non-numeric states
+    private @Nullable State[] dictionary = new State[8];
+    private int[] refCounts = new int[8];
+    private int[] freeSlots = new int[8];
+    private int freeSlotCount = 0;
+    private int dictionarySize = 0;
+    private final Map<State, Integer> dictionaryIndex = new HashMap<>();
+
+    /**
+     * Adds a state.
+     *
+     * @param timestamp the time of the state
+     * @param state the state
+     * @param maxEntries the maximum number of entries, {@code 0} for no limit
+     * @return true if the state has been added, false if a state with the same timestamp exists or the state is
+     *         older than all states of a full buffer
+     */
+    public boolean add(ZonedDateTime timestamp, State state, long maxEntries) {
+        long time = toNanos(timestamp);
+        long stamp = lock.writeLock();
+        try {
+            int index;
+            if (size == 0 || time > timestamps[physical(size - 1)]) {
+                // fast path: states usually arrive in chronological order
+                index = size;
+            } else {
+                index = binarySearch(time);
+                if (index >= 0) {
+                    return false;
+                }
+                index = -index - 1;
+            }
+            if (maxEntries > 0 && size >= maxEntries) {
+                if (index == 0) {
+                    return false;
+                }
+                while (size >= maxEntries) {
+                    removeFirst();
+                    index--;
+                }
+            }
+            ensureCapacity(size + 1, maxEntries);
+            insert(index, time, state);
+            zone = timestamp.getZone();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the oldest states until at most {@code maxEntries} states are left.
+     */
+    public void trim(long maxEntries) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            while (size > maxEntries) {
+                removeFirst();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all states within the given time range that match the filter.
+     *
+     * @return the number of removed states
+     */
+    public int remove(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, Predicate<State> filter) {
+        long from = begin == null ? Long.MIN_VALUE : toNanos(begin);
+        long to = end == null ? Long.MAX_VALUE : toNanos(end);
+        long stamp = lock.writeLock();
+        try {
+            int first = lowerBound(from);
+            int last = upperBound(to);
+            int removed = 0;
+            // compact the range [first, last) in place, keeping the states not matching the filter
+            int target = first;
+            for (int i = first; i < last; i++) {
+                int p = physical(i);
+                State state = decode(p);
+                if (filter.test(state)) {
+                    release(codes[p]);
+                    removed++;
+                } else {
+                    move(p, physical(target++));
+                }
+            }
+            if (removed > 0) {
+                for (int i = last; i < size; i++) {
+                    move(physical(i), physical(target++));
+                }
+                size -= removed;
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the states within the given time range that match the filter.
+     *
+     * The returned {@link Iterable} is backed by a copy of the matching range and creates the {@link HistoricItem}s
+     * only while iterating.
+     */
+    public Iterable<HistoricItem> query(String itemName, @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end,
+            boolean ascending, @Nullable Predicate<State> filter) {
+        long from = begin == null ? Long.MIN_VALUE : toNanos(begin);
+        long to = end == null ? Long.MAX_VALUE : toNanos(end);
+        Snapshot snapshot = snapshot(from, to);
+        if (filter != null) {
+            snapshot = snapshot.filter(filter);
+        }
+        return new HistoricItems(itemName, snapshot, ascending);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public @Nullable Instant getEarliest() {
+        long stamp = lock.readLock();
+        try {
+            return size == 0 ? null : toInstant(timestamps[physical(0)]);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public @Nullable Instant getLatest() {
+        long stamp = lock.readLock();
+        try {
+            return size == 0 ? null : toInstant(timestamps[physical(size - 1)]);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Snapshot snapshot(long from, long to) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                Snapshot snapshot = copyRange(from, to);
+                if (lock.validate(stamp)) {
+                    return snapshot;
+                }
+            } catch (RuntimeException e) {
+                // inconsistent read due to a concurrent write, retry below while holding the lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return copyRange(from, to);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Snapshot copyRange(long from, long to) {
+        int first = lowerBound(from);
+        int last = upperBound(to);
+        int count = Math.max(last - first, 0);
+        long[] times = new long[count];
+        double[] numbers = new double[count];
+        int[] numberCodes = new int[count];
+        @Nullable
+        State[] states = null;
+        for (int i = 0; i < count; i++) {
+            int p = physical(first + i);
+            times[i] = timestamps[p];
+            int code = codes[p];
+            if (code < 0) {
+                numbers[i] = values[p];
+                numberCodes[i] = code;
+            } else {
+                if (states == null) {
+                    states = new State[count];
+                }
+                // resolve now, the dictionary slot may be reused once the state has been evicted
+                states[i] = dictionary[code];
+            }
+        }
+        return new Snapshot(times, numbers, numberCodes, states, numericUnit, zone);
+    }
+
+    private int physical(int index) {
+        int p = head + index;
+        return p < timestamps.length ? p : p - timestamps.length;
+    }
+
+    /**
+     * Binary search on the logical index.
+     *
+     * @return the index of the timestamp, or {@code -(insertion point) - 1} if not found
+     */
+    private int binarySearch(long time) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midTime = timestamps[physical(mid)];
+            if (midTime < time) {
+                low = mid + 1;
+            } else if (midTime > time) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @return the index of the first timestamp greater than or equal to {@code time}
+     */
+    private int lowerBound(long time) {
+        int index = binarySearch(time);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * @return the index of the first timestamp greater than {@code time}
+     */
+    private int upperBound(long time) {
+        int index = binarySearch(time);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private void ensureCapacity(int capacity, long maxEntries) {
+        if (capacity <= timestamps.length) {
+            return;
+        }
+        int newCapacity = Math.max(timestamps.length * 2, capacity);
+        if (maxEntries > 0 && newCapacity > maxEntries) {
+            newCapacity = (int) Math.max(maxEntries, capacity);
+        }
+        long[] newTimestamps = new long[newCapacity];
+        double[] newValues = new double[newCapacity];
+        int[] newCodes = new int[newCapacity];
+        for (int i = 0; i < size; i++) {
+            int p = physical(i);
+            newTimestamps[i] = timestamps[p];
+            newValues[i] = values[p];
+            newCodes[i] = codes[p];
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        codes = newCodes;
+        head = 0;
+    }
+
+    private void insert(int index, long time, State state) {
+        int code = encode(state);
+        if (index < size) {
+            // shift the newer states by one, out-of-order inserts are rare (historic or forecast states)
+            for (int i = size; i > index; i--) {
+                move(physical(i - 1), physical(i));
+            }
+        }
+        int p = physical(index);
+        timestamps[p] = time;
+        codes[p] = code;
+        if (code < 0) {
+            values[p] = state instanceof QuantityType<?> quantity ? quantity.toBigDecimal().doubleValue()
+                    : ((DecimalType) state).toBigDecimal().doubleValue();
+        }
+        size++;
+    }
+
+    private void removeFirst() {
+        release(codes[head]);
+        head = physical(1);
+        size--;
+    }
+
+    private void move(int from, int to) {
+        if (from != to) {
+            timestamps[to] = timestamps[from];
+            values[to] = values[from];
+            codes[to] = codes[from];
+        }
+    }
+
+    private int encode(State state) {
+        int numericCode = numericCode(state);
+        if (numericCode != NOT_NUMERIC) {
+            return numericCode;
+        }
+        Integer existing = dictionaryIndex.get(state);
+        if (existing != null) {
+            refCounts[existing]++;
+            return existing;
+        }
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (dictionarySize == dictionary.length) {
+                dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+                refCounts = Arrays.copyOf(refCounts, dictionarySize * 2);
+            }
+            slot = dictionarySize++;
+        }
+        dictionary[slot] = state;
+        refCounts[slot] = 1;
+        dictionaryIndex.put(state, slot);
+        return slot;
+    }
+
+    private void release(int code) {
+        if (code < 0 || --refCounts[code] > 0) {
+            return;
+        }
+        State state = dictionary[code];
+        if (state != null) {
+            dictionaryIndex.remove(state);
+        }
+        dictionary[code] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = code;
+    }
+
+    private State decode(int physicalIndex) {
+        int code = codes[physicalIndex];
+        if (code < 0) {
+            return toState(values[physicalIndex], code, numericUnit);
+        }
+        return Objects.requireNonNull(dictionary[code]);
+    }
+
+    /**
+     * Checks whether the state can be stored in the numeric column without loss. The first numeric state
+     * determines the unit of the column.
+     *
+     * @return the (negative) code of the numeric state or {@link #NOT_NUMERIC}
+     */
+    private int numericCode(State state) {
+        Object unit;
+        BigDecimal value;
+        // subclasses like PercentType or HSBType are kept in the dictionary to preserve their type
+        if (state instanceof QuantityType<?> quantity && state.getClass() == QuantityType.class) {
+            unit = quantity.getUnit();
+            value = quantity.toBigDecimal();
+        } else if (state instanceof DecimalType decimal && state.getClass() == DecimalType.class) {
+            unit = NO_UNIT;
+            value = decimal.toBigDecimal();
+        } else {
+            return NOT_NUMERIC;
+        }
+        int scale = value.scale();
+        double d = value.doubleValue();
+        if (scale < -SCALE_OFFSET || !Double.isFinite(d) || !toBigDecimal(d, scale).equals(value)) {
+            return NOT_NUMERIC;
+        }
+        Object numericUnit = this.numericUnit;
+        if (numericUnit == null) {
+            this.numericUnit = unit;
+        } else if (!numericUnit.equals(unit)) {
+            return NOT_NUMERIC;
+        }
+        return -1 - (scale + SCALE_OFFSET);
+    }
+
+    private static BigDecimal toBigDecimal(double value, int scale) {
+        try {
+            return BigDecimal.valueOf(value).setScale(scale, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            return BigDecimal.valueOf(value);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static State toState(double value, int code, @Nullable Object unit) {
+        BigDecimal decimal = toBigDecimal(value, -1 - code - SCALE_OFFSET);
+        if (unit instanceof Unit<?> quantityUnit) {
+            return new QuantityType(decimal, quantityUnit);
+        }
+        return new DecimalType(decimal);
+    }
+
+    private static long toNanos(ZonedDateTime timestamp) {
+        Instant instant = timestamp.toInstant();
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(0, nanos);
+    }
+
+    /**
+     * Immutable copy of a range of the time series.
+     */
+    private record Snapshot(long[] timestamps, double[] values, int[] codes, @Nullable State @Nullable [] states,
+            @Nullable Object numericUnit, ZoneId zone) {
+
+        int size() {
+            return timestamps.length;
+        }
+
+        State state(int index) {
+            @Nullable
+            State[] states = this.states;
+            State state = states == null ? null : states[index];
+            return state != null ? state : toState(values[index], codes[index], numericUnit);
+        }
+
+        ZonedDateTime timestamp(int index) {
+            return ZonedDateTime.ofInstant(toInstant(timestamps[index]), zone);
+        }
+
+        Snapshot filter(Predicate<State> filter) {
+            int count = 0;
+            long[] filteredTimestamps = new long[size()];
+            State[] filteredStates = new State[size()];
+            for (int i = 0; i < size(); i++) {
+                State state = state(i);
+                if (filter.test(state)) {
+                    filteredTimestamps[count] = timestamps[i];
+                    filteredStates[count] = state;
+                    count++;
+                }
+            }
+            return new Snapshot(Arrays.copyOf(filteredTimestamps, count), new double[count], new int[count],
+                    Arrays.copyOf(filteredStates, count), numericUnit, zone);
+        }
+    }
+
+    private record HistoricItems(String itemName, Snapshot snapshot, boolean ascending)
+            implements Iterable<HistoricItem> {
+
+        @Override
+        public Iterator<HistoricItem> iterator() {
+            return new Iterator<>() {
+                private int position = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return position < snapshot.size();
+                }
+
+                @Override
+                public HistoricItem next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = ascending ? position : snapshot.size() - 1 - position;
+                    position++;
+                    return new SnapshotHistoricItem(itemName, snapshot, index);
+                }
+            };
+        }
+    }
+
+    private static class SnapshotHistoricItem implements HistoricItem {
+        private final String itemName;
+        private final Snapshot snapshot;
+        private final int index;
+
+        private SnapshotHistoricItem(String itemName, Snapshot snapshot, int index) {
+            this.itemName = itemName;
+            this.snapshot = snapshot;
+            this.index = index;
+        }
+
+        @Override
+        public ZonedDateTime getTimestamp() {
+            return snapshot.timestamp(index);
+        }
+
+        @Override
+        public State getState() {
+            return snapshot.state(index);
+        }
+
+        @Override
+        public String getName() {
+            return itemName;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryTimeSeriesTest} contains tests for the {@link InMemoryTimeSeries}
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryTimeSeriesTest {
+    private static final String ITEM_NAME = "testItem";
+    private static final ZonedDateTime START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+    @Test
+    public void oldestStatesAreEvictedWhenFull() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        for (int i = 0; i < 50; i++) {
+            timeSeries.add(START.plusMinutes(i), new DecimalType(i), 10);
+        }
+
+        assertThat(timeSeries.size(), is(10));
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, true, null)),
+                contains(decimals(40, 41, 42, 43, 44, 45, 46, 47, 48, 49)));
+        assertThat(timeSeries.getEarliest(), is(START.plusMinutes(40).toInstant()));
+        assertThat(timeSeries.getLatest(), is(START.plusMinutes(49).toInstant()));
+    }
+
+    @Test
+    public void outOfOrderStatesAreSorted() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        timeSeries.add(START.plusMinutes(2), new DecimalType(2), 0);
+        timeSeries.add(START.plusMinutes(0), new DecimalType(0), 0);
+        timeSeries.add(START.plusMinutes(3), new DecimalType(3), 0);
+        timeSeries.add(START.plusMinutes(1), new DecimalType(1), 0);
+
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, true, null)), contains(decimals(0, 1, 2, 3)));
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, false, null)), contains(decimals(3, 2, 1, 0)));
+    }
+
+    @Test
+    public void duplicateTimestampIsIgnored() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+
+        assertThat(timeSeries.add(START, new DecimalType(1), 0), is(true));
+        assertThat(timeSeries.add(START, new DecimalType(2), 0), is(false));
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, true, null)), contains(decimals(1)));
+    }
+
+    @Test
+    public void olderStateIsRejectedWhenFull() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        timeSeries.add(START.plusMinutes(1), new DecimalType(1), 1);
+
+        assertThat(timeSeries.add(START, new DecimalType(0), 1), is(false));
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, true, null)), contains(decimals(1)));
+    }
+
+    @Test
+    public void statesAreRestoredWithoutLoss() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        List<State> expected = List.of(new DecimalType("1.50"), new DecimalType("0.1"), new DecimalType(-3),
+                new DecimalType("12345678901234567890.123"), new QuantityType<>("21.0 °C"),
+                new QuantityType<>("5 kW"), new PercentType(10), OnOffType.ON, new StringType("text"));
+        for (int i = 0; i < expected.size(); i++) {
+            timeSeries.add(START.plusMinutes(i), expected.get(i), 0);
+        }
+
+        List<State> actual = states(timeSeries.query(ITEM_NAME, null, null, true, null));
+        assertThat(actual, is(expected));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getClass(), is(expected.get(i).getClass()));
+            assertThat(actual.get(i).toString(), is(expected.get(i).toString()));
+        }
+    }
+
+    @Test
+    public void timestampsKeepPrecisionAndZone() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        ZonedDateTime timestamp = START.plusNanos(123456789).withZoneSameInstant(ZoneId.of("Europe/Berlin"));
+        timeSeries.add(timestamp, OnOffType.ON, 0);
+
+        List<HistoricItem> items = new ArrayList<>();
+        timeSeries.query(ITEM_NAME, null, null, true, null).forEach(items::add);
+        assertThat(items, hasSize(1));
+        assertThat(items.getFirst().getName(), is(ITEM_NAME));
+        assertThat(items.getFirst().getTimestamp(), is(timestamp));
+    }
+
+    @Test
+    public void rangeQueryIncludesBoundaries() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        for (int i = 0; i < 10; i++) {
+            timeSeries.add(START.plusMinutes(i), new DecimalType(i), 0);
+        }
+
+        assertThat(states(timeSeries.query(ITEM_NAME, START.plusMinutes(3), START.plusMinutes(5), true, null)),
+                contains(decimals(3, 4, 5)));
+        assertThat(states(timeSeries.query(ITEM_NAME, START.plusSeconds(150), null, true,
+                state -> ((DecimalType) state).intValue() % 2 == 0)), contains(decimals(4, 6, 8)));
+        assertThat(states(timeSeries.query(ITEM_NAME, START.plusHours(1), null, true, null)), is(empty()));
+    }
+
+    @Test
+    public void removeKeepsRemainingStatesInOrder() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        for (int i = 0; i < 10; i++) {
+            timeSeries.add(START.plusMinutes(i), i % 2 == 0 ? OnOffType.ON : OnOffType.OFF, 0);
+        }
+
+        assertThat(timeSeries.remove(START.plusMinutes(2), START.plusMinutes(7), OnOffType.ON::equals), is(3));
+        assertThat(timeSeries.size(), is(7));
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, true, null)), contains(OnOffType.ON,
+                OnOffType.OFF, OnOffType.OFF, OnOffType.OFF, OnOffType.OFF, OnOffType.ON, OnOffType.OFF));
+
+        // evicting all entries of a dictionary state frees the slot, re-adding must still work
+        timeSeries.remove(null, null, OnOffType.ON::equals);
+        timeSeries.add(START.plusHours(1), new StringType("new"), 0);
+        timeSeries.add(START.plusHours(2), OnOffType.ON, 0);
+        assertThat(states(timeSeries.query(ITEM_NAME, START.plusHours(1), null, true, null)),
+                contains(new StringType("new"), OnOffType.ON));
+    }
+
+    @Test
+    public void trimRemovesOldestStates() {
+        InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+        for (int i = 0; i < 10; i++) {
+            timeSeries.add(START.plusMinutes(i), new DecimalType(i), 0);
+        }
+        timeSeries.trim(3);
+
+        assertThat(states(timeSeries.query(ITEM_NAME, null, null, true, null)), contains(decimals(7, 8, 9)));
+    }
+
+    private static List<State> states(Iterable<HistoricItem> items) {
+        List<State> states = new ArrayList<>();
+        items.forEach(item -> states.add(item.getState()));
+        return states;
+    }
+
+    private static DecimalType[] decimals(int... values) {
+        DecimalType[] decimals = new DecimalType[values.length];
+        for (int i = 0; i < values.length; i++) {
+            decimals[i] = new DecimalType(values[i]);
+        }
+        return decimals;
+    }
+}
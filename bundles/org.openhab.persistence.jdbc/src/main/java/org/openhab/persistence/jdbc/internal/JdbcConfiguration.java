@@ -66,6 +66,12 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    // write buffer, disabled when batchSize is 0
+    private int batchSize = 0;
+    private int batchFlushInterval = 1000;
+    private int batchQueueCapacity = 10000;
+    private int batchWriterThreads = 2;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +197,30 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchFlushInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchFlushInterval = Math.max(Integer.parseInt(bi), 10);
+            logger.debug("JDBC::updateConfig: batchFlushInterval={}", batchFlushInterval);
+        }
+
+        String bq = (String) configuration.get("batchQueueCapacity");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueCapacity = Integer.parseInt(bq);
+            logger.debug("JDBC::updateConfig: batchQueueCapacity={}", batchQueueCapacity);
+        }
+
+        String bw = (String) configuration.get("batchWriterThreads");
+        if (bw != null && !bw.isBlank() && isNumericPattern.matcher(bw).matches()) {
+            batchWriterThreads = Math.max(Integer.parseInt(bw), 1);
+            logger.debug("JDBC::updateConfig: batchWriterThreads={}", batchWriterThreads);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -404,6 +434,22 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    public int getBatchQueueCapacity() {
+        return batchQueueCapacity;
+    }
+
+    public int getBatchWriterThreads() {
+        return batchWriterThreads;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
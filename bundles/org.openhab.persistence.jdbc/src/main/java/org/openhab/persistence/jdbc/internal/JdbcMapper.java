@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -36,6 +37,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemState;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.slf4j.Logger;
@@ -56,7 +58,7 @@ public class JdbcMapper {
     private final TimeZoneProvider timeZoneProvider;
 
     // Error counter - used to reconnect to database on error
-    protected int errCnt;
+    protected final AtomicInteger errCnt = new AtomicInteger();
     protected boolean initialized = false;
     protected @NonNullByDefault({}) JdbcConfiguration conf;
     protected final Map<String, String> itemNameToTableNameMap = new HashMap<>();
@@ -223,7 +225,21 @@ public class JdbcMapper {
             conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
         }
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
+    }
+
+    protected void storeItemValues(Item item, List<PendingItemState> states, @Nullable String alias)
+            throws JdbcException {
+        logger.debug("JDBC::storeItemValues: item={} count={}", item, states.size());
+        String tableName;
+        // table creation updates the item index, which is shared with the single state writer
+        synchronized (this) {
+            tableName = getTable(item, alias);
+        }
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doStoreItemValues(item, states, tableName);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt.set(0);
     }
 
     public long getRowCount(String tableName) throws JdbcSQLException {
@@ -239,7 +255,7 @@ public class JdbcMapper {
         List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
                 item.getName(), timeZoneProvider.getTimeZone());
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
         return result;
     }
 
@@ -248,7 +264,7 @@ public class JdbcMapper {
         long timerStart = System.currentTimeMillis();
         conf.getDBDAO().doDeleteItemValues(filter, table, timeZoneProvider.getTimeZone());
         logTime("deleteItemValues", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
     }
 
     /***********************
@@ -298,12 +314,14 @@ public class JdbcMapper {
             boolean p = pingDB();
             if (p) {
                 logger.debug("JDBC::checkDBAcessability, first try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+                return (p && !(conf.getErrReconnectThreshold() > 0
+                        && errCnt.get() <= conf.getErrReconnectThreshold()));
             } else {
                 // second
                 p = pingDB();
                 logger.debug("JDBC::checkDBAcessability, second try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+                return (p && !(conf.getErrReconnectThreshold() > 0
+                        && errCnt.get() <= conf.getErrReconnectThreshold()));
             }
         } catch (JdbcSQLException e) {
             logger.warn("Unable to ping database", e);
@@ -330,7 +348,7 @@ public class JdbcMapper {
             logger.info(
                     "JDBC::checkDBSchema: Rebuild complete, configure the 'rebuildTableNames' setting to 'false' to stop rebuilds on startup");
             // Reset the error counter
-            errCnt = 0;
+            errCnt.set(0);
         }
         populateItemNameToTableNameMap();
     }
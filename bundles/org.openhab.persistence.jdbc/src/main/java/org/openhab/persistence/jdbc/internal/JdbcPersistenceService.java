@@ -46,6 +46,7 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemState;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -77,6 +78,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private @Nullable ScheduledExecutorService writerExecutor;
+    private @Nullable JdbcWriteBuffer writeBuffer;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -120,6 +124,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        stopWriteBuffer();
         // closeConnection();
         initialized = false;
     }
@@ -137,22 +142,60 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // the time is taken now, as the state may be written well after the database would assign it
+        writeBuffer.enqueue(item, alias, state, date != null ? date : ZonedDateTime.now());
+    }
+
+    private void storeBatch(Item item, @Nullable String alias, List<PendingItemState> states) throws JdbcException {
+        if (!checkDBAccessability()) {
+            throw new JdbcException("No connection to database. Will retry connecting to database when error count:"
+                    + errCnt.get() + " equals errReconnectThreshold:" + conf.getErrReconnectThreshold());
+        }
+        long timerStart = System.currentTimeMillis();
+        storeItemValues(item, states, alias);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} states of item '{}' in SQL database at {} in {} ms.", states.size(),
+                    item.getName(), new Date(), System.currentTimeMillis() - timerStart);
+        }
+    }
+
+    private synchronized void storeState(Item item, @Nullable String alias, PendingItemState state)
+            throws JdbcException {
+        try {
+            storeItemValue(item, state.state(), state.date(), alias);
+        } catch (JdbcException | RuntimeException e) {
+            errCnt.incrementAndGet();
+            throw e;
+        }
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -165,7 +208,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         if (!checkDBAccessability()) {
             logger.warn(
                     "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
-                    state, item, errCnt, conf.getErrReconnectThreshold());
+                    state, item, errCnt.get(), conf.getErrReconnectThreshold());
             return;
         }
         try {
@@ -258,7 +301,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                         System.currentTimeMillis() - timerStart);
             }
             // Success
-            errCnt = 0;
+            errCnt.set(0);
             return items;
         } catch (JdbcSQLException e) {
             logger.warn("JDBC::query: Unable to query item", e);
@@ -269,7 +312,11 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopWriteBuffer();
         conf = new JdbcConfiguration(configuration);
+        if (conf.valid && conf.getBatchSize() > 0) {
+            startWriteBuffer();
+        }
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
             try {
@@ -287,6 +334,38 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void startWriteBuffer() {
+        ScheduledExecutorService writerExecutor = Executors.newScheduledThreadPool(conf.getBatchWriterThreads(),
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-writer"));
+        JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer(writerExecutor, this::storeBatch, this::storeState,
+                conf.getBatchSize(), conf.getBatchQueueCapacity(), conf.getBatchFlushInterval());
+        writeBuffer.start();
+        this.writerExecutor = writerExecutor;
+        this.writeBuffer = writeBuffer;
+        logger.debug("JDBC::startWriteBuffer: batchSize={} batchFlushInterval={} ms batchWriterThreads={}",
+                conf.getBatchSize(), conf.getBatchFlushInterval(), conf.getBatchWriterThreads());
+    }
+
+    private void stopWriteBuffer() {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        this.writeBuffer = null;
+        if (writeBuffer != null) {
+            writeBuffer.stop();
+        }
+        ScheduledExecutorService writerExecutor = this.writerExecutor;
+        this.writerExecutor = null;
+        if (writerExecutor != null) {
+            writerExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Get the write buffer, if enabled by configuration.
+     */
+    public @Nullable JdbcWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemState;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write-behind buffer for the JDBC persistence service.
+ *
+ * States are collected in a bounded queue per item (or alias) and written with a single JDBC batch per table,
+ * either when the queue reaches the batch size or when the flush interval has elapsed. Flushes of different
+ * tables run in parallel on the given executor, each using its own pooled connection, while the states of a
+ * single table are always written by one thread at a time and therefore keep their order. When a batch fails, its
+ * states are written one at a time, so that only the states that cannot be stored are lost.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBuffer {
+
+    // dropped states are logged on warn level at most once per interval
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Writes a batch of states of one item to the database.
+     */
+    @FunctionalInterface
+    public interface BatchStore {
+        void storeBatch(Item item, @Nullable String alias, List<PendingItemState> states) throws JdbcException;
+    }
+
+    /**
+     * Writes a single state of an item to the database.
+     */
+    @FunctionalInterface
+    public interface StateStore {
+        void storeState(Item item, @Nullable String alias, PendingItemState state) throws JdbcException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteBuffer.class);
+
+    private final Map<String, ItemQueue> queues = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private final BatchStore batchStore;
+    private final StateStore stateStore;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final long flushIntervalMillis;
+
+    private final AtomicInteger queuedStates = new AtomicInteger();
+    private final AtomicLong storedStates = new AtomicLong();
+    private final AtomicLong droppedStates = new AtomicLong();
+    private final AtomicLong failedStates = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong lastDropWarningNanos = new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL_NANOS);
+
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    public JdbcWriteBuffer(ScheduledExecutorService executor, BatchStore batchStore, StateStore stateStore,
+            int batchSize, int queueCapacity, long flushIntervalMillis) {
+        this.executor = executor;
+        this.batchStore = batchStore;
+        this.stateStore = stateStore;
+        this.batchSize = batchSize;
+        this.queueCapacity = Math.max(queueCapacity, batchSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public synchronized void start() {
+        if (flushJob == null) {
+            flushJob = executor.scheduleWithFixedDelay(this::scheduleFlushAll, flushIntervalMillis,
+                    flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the periodic flush and writes all pending states in the calling thread.
+     */
+    public void stop() {
+        synchronized (this) {
+            ScheduledFuture<?> flushJob = this.flushJob;
+            if (flushJob != null) {
+                flushJob.cancel(false);
+                this.flushJob = null;
+            }
+        }
+        queues.values().forEach(this::flush);
+    }
+
+    /**
+     * Adds a state to the queue of the given item.
+     *
+     * @return false if the queue of the item is full and the state has been dropped
+     */
+    public boolean enqueue(Item item, @Nullable String alias, State state, ZonedDateTime date) {
+        String name = alias != null ? alias : item.getName();
+        ItemQueue queue = queues.computeIfAbsent(name, n -> new ItemQueue(item, alias));
+        int size;
+        synchronized (queue.states) {
+            if (queue.states.size() >= queueCapacity) {
+                long dropped = droppedStates.incrementAndGet();
+                long now = System.nanoTime();
+                long lastWarning = lastDropWarningNanos.get();
+                if (now - lastWarning >= DROP_WARNING_INTERVAL_NANOS
+                        && lastDropWarningNanos.compareAndSet(lastWarning, now)) {
+                    logger.warn(
+                            "JDBC::store: write buffer for item '{}' is full, dropping state '{}' ({} states dropped in total)",
+                            name, state, dropped);
+                } else {
+                    logger.debug("JDBC::store: write buffer for item '{}' is full, dropping state '{}'", name, state);
+                }
+                scheduleFlush(queue);
+                return false;
+            }
+            queue.item = item;
+            queue.states.add(new PendingItemState(state, date));
+            size = queue.states.size();
+        }
+        queuedStates.incrementAndGet();
+        if (size >= batchSize) {
+            scheduleFlush(queue);
+        }
+        return true;
+    }
+
+    private void scheduleFlushAll() {
+        for (ItemQueue queue : queues.values()) {
+            scheduleFlush(queue);
+        }
+    }
+
+    private void scheduleFlush(ItemQueue queue) {
+        if (queue.flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    queue.flushScheduled.set(false);
+                    flush(queue);
+                });
+            } catch (RuntimeException e) {
+                // executor has been shut down, pending states are written by stop()
+                queue.flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flush(ItemQueue queue) {
+        queue.flushLock.lock();
+        try {
+            while (true) {
+                List<PendingItemState> batch;
+                Item item;
+                synchronized (queue.states) {
+                    if (queue.states.isEmpty()) {
+                        return;
+                    }
+                    int count = Math.min(queue.states.size(), batchSize);
+                    batch = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        batch.add(queue.states.removeFirst());
+                    }
+                    item = queue.item;
+                }
+                queuedStates.addAndGet(-batch.size());
+                long start = System.nanoTime();
+                try {
+                    batchStore.storeBatch(item, queue.alias, batch);
+                    storedStates.addAndGet(batch.size());
+                } catch (JdbcException | RuntimeException e) {
+                    if (batch.size() == 1) {
+                        failedStates.incrementAndGet();
+                        logger.warn("JDBC::store: Unable to store state '{}' of item '{}'", batch.getFirst().state(),
+                                item.getName(), e);
+                    } else {
+                        logger.debug(
+                                "JDBC::store: Unable to store {} states of item '{}' in one batch, retrying them one by one",
+                                batch.size(), item.getName(), e);
+                        storeEach(item, queue.alias, batch);
+                    }
+                }
+                long duration = System.nanoTime() - start;
+                flushCount.incrementAndGet();
+                totalFlushNanos.addAndGet(duration);
+                lastFlushNanos.set(duration);
+                maxFlushNanos.accumulateAndGet(duration, Math::max);
+            }
+        } finally {
+            queue.flushLock.unlock();
+        }
+    }
+
+    private void storeEach(Item item, @Nullable String alias, List<PendingItemState> states) {
+        for (PendingItemState state : states) {
+            try {
+                stateStore.storeState(item, alias, state);
+                storedStates.incrementAndGet();
+            } catch (JdbcException | RuntimeException e) {
+                failedStates.incrementAndGet();
+                logger.warn("JDBC::store: Unable to store state '{}' of item '{}'", state.state(), item.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Number of states waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queuedStates.get();
+    }
+
+    public long getStoredStates() {
+        return storedStates.get();
+    }
+
+    public long getDroppedStates() {
+        return droppedStates.get();
+    }
+
+    public long getFailedStates() {
+        return failedStates.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public double getAverageFlushMillis() {
+        long count = flushCount.get();
+        return count == 0 ? 0 : totalFlushNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getLastFlushMillis() {
+        return lastFlushNanos.get() / 1_000_000.0;
+    }
+
+    public double getMaxFlushMillis() {
+        return maxFlushNanos.get() / 1_000_000.0;
+    }
+
+    private static class ItemQueue {
+        private final ArrayDeque<PendingItemState> states = new ArrayDeque<>();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private final @Nullable String alias;
+        private Item item;
+
+        private ItemQueue(Item item, @Nullable String alias) {
+            this.item = item;
+            this.alias = alias;
+        }
+    }
+}
@@ -60,6 +60,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemState;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -446,12 +447,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = storeItemValueWithTimeProvider(storedVO);
+        Object[] params = storeItemValueWithTimeParams(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} params={}", sql, params);
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +457,36 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several states of one item in a single JDBC batch.
+     *
+     * @param item the item the states belong to
+     * @param states the states to store, each with its own timestamp
+     * @param tableName the table of the item
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(Item item, List<PendingItemState> states, String tableName)
+            throws JdbcSQLException {
+        if (states.isEmpty()) {
+            return;
+        }
+        Object[][] params = new Object[states.size()][];
+        ItemVO storedVO = new ItemVO(tableName, null);
+        for (int i = 0; i < params.length; i++) {
+            PendingItemState pendingState = states.get(i);
+            storedVO = storeItemValueProvider(item, pendingState.state(), new ItemVO(tableName, null));
+            params[i] = storeItemValueWithTimeParams(storedVO, pendingState.date());
+        }
+        // all rows belong to the same item and therefore share the same statement
+        String sql = storeItemValueWithTimeProvider(storedVO);
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -567,6 +595,23 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Provides the insert statement for a value with an explicit timestamp, which is bound as first parameter.
+     */
+    protected String storeItemValueWithTimeProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    /**
+     * Provides the parameters matching {@link #storeItemValueWithTimeProvider(ItemVO)}.
+     */
+    protected Object[] storeItemValueWithTimeParams(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
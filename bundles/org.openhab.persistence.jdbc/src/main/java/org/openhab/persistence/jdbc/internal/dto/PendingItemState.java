@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.types.State;
+
+/**
+ * Represents a state waiting in the write buffer to be stored in an item table.
+ *
+ * @param state the state to store
+ * @param date the timestamp of the state, taken when the state was queued if none was provided
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public record PendingItemState(State state, ZonedDateTime date) {
+}
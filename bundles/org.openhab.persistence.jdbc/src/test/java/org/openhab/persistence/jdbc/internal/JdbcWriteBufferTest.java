@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemState;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+
+/**
+ * Tests the {@link JdbcWriteBuffer}.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBufferTest {
+
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private final List<List<PendingItemState>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final List<@Nullable String> aliases = Collections.synchronizedList(new ArrayList<>());
+    private final List<PendingItemState> singleStates = Collections.synchronizedList(new ArrayList<>());
+    private @Nullable DecimalType failingState;
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void store(Item item, @Nullable String alias, List<PendingItemState> states) {
+        aliases.add(alias);
+        batches.add(states);
+    }
+
+    private void storeState(Item item, @Nullable String alias, PendingItemState state) throws JdbcException {
+        if (state.state().equals(failingState)) {
+            throw new JdbcException("duplicate timestamp");
+        }
+        singleStates.add(state);
+    }
+
+    private static Item item(String name) {
+        Item item = mock(Item.class);
+        when(item.getName()).thenReturn(name);
+        return item;
+    }
+
+    @Test
+    void fullBatchIsWrittenWithoutWaitingForInterval() throws InterruptedException {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(executor, this::store, this::storeState, 3, 100, 60_000);
+        buffer.start();
+        Item item = item("Power");
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            buffer.enqueue(item, null, new DecimalType(i), now.plusSeconds(i));
+        }
+        waitFor(() -> buffer.getFlushCount() == 1);
+
+        assertThat(batches, hasSize(1));
+        assertThat(batches.getFirst().stream().map(PendingItemState::state).toList(),
+                contains(new DecimalType(0), new DecimalType(1), new DecimalType(2)));
+        assertThat(buffer.getQueueDepth(), is(0));
+        assertThat(buffer.getFlushCount(), is(1L));
+    }
+
+    @Test
+    void pendingStatesAreWrittenAfterInterval() throws InterruptedException {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(executor, this::store, this::storeState, 100, 100, 20);
+        buffer.start();
+        buffer.enqueue(item("Power"), "PowerAlias", new DecimalType(1), ZonedDateTime.now());
+        waitFor(() -> buffer.getFlushCount() == 1);
+
+        assertThat(aliases, contains("PowerAlias"));
+    }
+
+    @Test
+    void stopWritesPendingStatesInBatches() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(executor, this::store, this::storeState, 2, 100, 60_000);
+        executor.shutdown();
+        Item item = item("Power");
+        for (int i = 0; i < 5; i++) {
+            buffer.enqueue(item, null, new DecimalType(i), ZonedDateTime.now());
+        }
+        buffer.stop();
+
+        assertThat(batches.stream().map(List::size).toList(), contains(2, 2, 1));
+        assertThat(buffer.getStoredStates(), is(5L));
+    }
+
+    @Test
+    void statesAreDroppedWhenQueueIsFull() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(executor, this::store, this::storeState, 2, 2, 60_000);
+        executor.shutdown();
+        Item item = item("Power");
+
+        assertTrue(buffer.enqueue(item, null, new DecimalType(1), ZonedDateTime.now()));
+        assertTrue(buffer.enqueue(item, null, new DecimalType(2), ZonedDateTime.now()));
+        assertFalse(buffer.enqueue(item, null, new DecimalType(3), ZonedDateTime.now()));
+        assertThat(buffer.getDroppedStates(), is(1L));
+        assertThat(buffer.getQueueDepth(), is(2));
+    }
+
+    @Test
+    void failedBatchIsCounted() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(executor, (item, alias, states) -> {
+            throw new JdbcException("database down");
+        }, this::storeState, 10, 100, 60_000);
+        executor.shutdown();
+        buffer.enqueue(item("Power"), null, new DecimalType(1), ZonedDateTime.now());
+        buffer.stop();
+
+        assertThat(buffer.getFailedStates(), is(1L));
+        assertThat(buffer.getStoredStates(), is(0L));
+    }
+
+    @Test
+    void failedBatchIsRetriedStateByState() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(executor, (item, alias, states) -> {
+            throw new JdbcException("duplicate timestamp");
+        }, this::storeState, 10, 100, 60_000);
+        executor.shutdown();
+        failingState = new DecimalType(2);
+        Item item = item("Power");
+        for (int i = 1; i <= 3; i++) {
+            buffer.enqueue(item, null, new DecimalType(i), ZonedDateTime.now());
+        }
+        buffer.stop();
+
+        assertThat(singleStates.stream().map(PendingItemState::state).toList(),
+                contains(new DecimalType(1), new DecimalType(3)));
+        assertThat(buffer.getStoredStates(), is(2L));
+        assertThat(buffer.getFailedStates(), is(1L));
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
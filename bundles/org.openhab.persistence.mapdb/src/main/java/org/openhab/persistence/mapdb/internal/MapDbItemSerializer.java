@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+
+/**
+ * Binary serializer for {@link MapDbItem}s.
+ *
+ * Every state is written as a one byte type tag followed by a primitive payload. The common state types are
+ * encoded directly, all other types are written as class name and full string and restored by the
+ * {@link TypeParser}, like the {@link StateTypeAdapter} does.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializer {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NONE = 0;
+    private static final byte TYPE_GENERIC = 1;
+    private static final byte TYPE_ON_OFF = 2;
+    private static final byte TYPE_OPEN_CLOSED = 3;
+    private static final byte TYPE_UP_DOWN = 4;
+    private static final byte TYPE_DECIMAL = 5;
+    private static final byte TYPE_PERCENT = 6;
+    private static final byte TYPE_QUANTITY = 7;
+    private static final byte TYPE_STRING = 8;
+    private static final byte TYPE_HSB = 9;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    byte[] serialize(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_VERSION);
+        writeString(out, item.getName());
+        out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+        writeState(out, item.getState());
+        writeState(out, item.getLastState());
+        ZonedDateTime lastStateChange = item.getLastStateChange();
+        out.writeLong(lastStateChange != null ? lastStateChange.toInstant().toEpochMilli() : NO_DATE);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    MapDbItem deserialize(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported record format version " + version);
+        }
+        MapDbItem item = new MapDbItem();
+        item.setName(readString(in));
+        item.setTimestamp(new Date(in.readLong()));
+        State state = readState(in);
+        if (state == null) {
+            throw new IOException("Record of '" + item.getName() + "' has no state");
+        }
+        item.setState(state);
+        item.setLastState(readState(in));
+        long lastStateChange = in.readLong();
+        item.setLastStateChange(lastStateChange != NO_DATE ? new Date(lastStateChange) : null);
+        return item;
+    }
+
+    private void writeState(DataOutput out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TYPE_NONE);
+        } else if (state instanceof OnOffType onOff) {
+            out.writeByte(TYPE_ON_OFF);
+            out.writeBoolean(onOff == OnOffType.ON);
+        } else if (state instanceof OpenClosedType openClosed) {
+            out.writeByte(TYPE_OPEN_CLOSED);
+            out.writeBoolean(openClosed == OpenClosedType.OPEN);
+        } else if (state instanceof UpDownType upDown) {
+            out.writeByte(TYPE_UP_DOWN);
+            out.writeBoolean(upDown == UpDownType.UP);
+        } else if (state instanceof HSBType hsb) {
+            // check subclasses before their parents, HSBType extends PercentType extends DecimalType
+            out.writeByte(TYPE_HSB);
+            writeDecimal(out, hsb.getHue().toBigDecimal());
+            writeDecimal(out, hsb.getSaturation().toBigDecimal());
+            writeDecimal(out, hsb.getBrightness().toBigDecimal());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == QuantityType.class) {
+            out.writeByte(TYPE_QUANTITY);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TYPE_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private @Nullable State readState(DataInput in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_NONE -> null;
+            case TYPE_ON_OFF -> OnOffType.from(in.readBoolean());
+            case TYPE_OPEN_CLOSED -> in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TYPE_UP_DOWN -> in.readBoolean() ? UpDownType.UP : UpDownType.DOWN;
+            case TYPE_HSB -> new HSBType(new DecimalType(readDecimal(in)), new PercentType(readDecimal(in)),
+                    new PercentType(readDecimal(in)));
+            case TYPE_PERCENT -> new PercentType(readDecimal(in));
+            case TYPE_DECIMAL -> new DecimalType(readDecimal(in));
+            case TYPE_QUANTITY -> QuantityType.valueOf(readString(in));
+            case TYPE_STRING -> new StringType(readString(in));
+            case TYPE_GENERIC -> readGenericState(readString(in), readString(in));
+            default -> throw new IOException("Unknown state type " + type);
+        };
+    }
+
+    private State readGenericState(String typeName, String value) throws IOException {
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> type = (Class<? extends State>) Class.forName(typeName);
+            State state = TypeParser.parseState(List.of(type), value);
+            if (state == null) {
+                throw new IOException("Couldn't parse '" + value + "' as " + typeName);
+            }
+            return state;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unknown state class " + typeName, e);
+        }
+    }
+
+    private void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        out.writeInt(value.scale());
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private BigDecimal readDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedShort()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private void writeString(DataOutput out, String value) throws IOException {
+        // DataOutput.writeUTF is limited to 64k, string states can be longer
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
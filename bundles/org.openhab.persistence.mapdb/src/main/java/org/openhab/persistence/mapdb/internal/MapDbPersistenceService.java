@@ -33,6 +33,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.Item;
@@ -62,6 +63,7 @@ import com.google.gson.GsonBuilder;
  *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
+ * @author acfischer42 - Binary record format
  */
 @NonNullByDefault
 @Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
@@ -73,6 +75,9 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    // records of older versions, stored as JSON strings
+    private static final String JSON_MAP_NAME = "itemStore";
+    private static final String MAP_NAME = "itemStoreBinary";
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
@@ -83,8 +88,11 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
 
+    private final MapDbItemSerializer serializer = new MapDbItemSerializer();
+
+    // only used to migrate records of older versions
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
@@ -103,7 +111,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
             db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openMap();
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -135,7 +143,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 }
 
                 db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openMap();
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
@@ -144,6 +152,35 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         logger.debug("MapDB persistence service is now activated");
     }
 
+    private void openMap() {
+        map = db.createTreeMap(MAP_NAME).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+        if (db.exists(JSON_MAP_NAME)) {
+            migrateJsonRecords();
+        }
+    }
+
+    /**
+     * Converts the JSON records of older versions to the binary format and removes the old map afterwards.
+     */
+    private void migrateJsonRecords() {
+        Map<String, String> jsonMap = db.getTreeMap(JSON_MAP_NAME);
+        int migrated = 0;
+        for (Map.Entry<String, String> entry : jsonMap.entrySet()) {
+            Optional<MapDbItem> item = deserializeJson(entry.getValue());
+            if (item.isPresent() && !map.containsKey(entry.getKey())) {
+                try {
+                    map.put(entry.getKey(), serializer.serialize(item.get()));
+                    migrated++;
+                } catch (IOException e) {
+                    logger.warn("Failed to migrate the MapDB record of '{}': {}", entry.getKey(), e.getMessage());
+                }
+            }
+        }
+        db.delete(JSON_MAP_NAME);
+        db.commit();
+        logger.info("Migrated {} MapDB records to the binary format", migrated);
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
@@ -193,30 +230,34 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
         threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+            try {
+                map.put(localAlias, serializer.serialize(mItem));
+                db.commit();
+                logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
+            } catch (IOException e) {
+                logger.warn("Failed to store '{}' with state '{}' in MapDB database: {}", localAlias, state,
+                        e.getMessage());
+            }
         });
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        byte[] data = map.get(filter.getItemName());
+        if (data == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(data);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
+        byte[] data = map.get(alias != null ? alias : itemName);
+        if (data == null) {
             return null;
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(data);
         MapDbItem dbItem = item.orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
@@ -224,12 +265,21 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private Optional<MapDbItem> deserialize(byte[] data) {
+        try {
+            MapDbItem item = serializer.deserialize(data);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Deserialized '{}' with state '{}'", item.getName(), item.getState());
+            }
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Deserialized invalid item: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
+    private Optional<MapDbItem> deserializeJson(String json) {
         MapDbItem item = mapper.fromJson(json, MapDbItem.class);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the {@link MapDbItemSerializer}.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializerTest {
+    private final MapDbItemSerializer serializer = new MapDbItemSerializer();
+
+    public static Stream<State> readWriteRoundtripShouldRecreateTheWrittenState() {
+        return Stream.of(DecimalType.ZERO, new DecimalType(1.123), new DecimalType(new BigDecimal("-1E+5")),
+                HSBType.BLACK, HSBType.fromRGB(11, 22, 33), OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN,
+                UpDownType.DOWN, PercentType.valueOf("0.0000001"), PercentType.HUNDRED, QuantityType.valueOf("1 kW"),
+                new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                new QuantityType<>(new BigDecimal("75"), ImperialUnits.MILES_PER_HOUR), StringType.valueOf(""),
+                StringType.valueOf("äöü @@@ \n 1 2 3"), PlayPauseType.PLAY);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void readWriteRoundtripShouldRecreateTheWrittenState(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+        item.setTimestamp(Date.from(Instant.parse("2025-01-01T12:00:00.123Z")));
+
+        MapDbItem actual = serializer.deserialize(serializer.serialize(item));
+
+        assertThat(actual.getName(), is("item"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getState().toFullString(), is(state.toFullString()));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    @Test
+    public void lastStateAndLastStateChangeAreRestored() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(OnOffType.ON);
+        item.setLastState(OnOffType.OFF);
+        item.setLastStateChange(Date.from(Instant.parse("2025-01-01T11:00:00Z")));
+
+        MapDbItem actual = serializer.deserialize(serializer.serialize(item));
+
+        assertThat(actual.getLastState(), is(OnOffType.OFF));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+
+    @Test
+    public void unknownFormatIsRejected() {
+        assertThrows(IOException.class, () -> serializer.deserialize(new byte[] { 99 }));
+    }
+}
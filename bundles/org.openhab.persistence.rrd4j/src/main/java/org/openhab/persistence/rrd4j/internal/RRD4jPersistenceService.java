@@ -27,13 +27,17 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -84,10 +88,13 @@ import org.rrd4j.DsType;
 import org.rrd4j.core.Archive;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -101,6 +108,7 @@ import org.slf4j.LoggerFactory;
  * @author Jan N. Klug - some improvements
  * @author Karel Goderis - remove TimerThread dependency
  * @author Mark Herwege - restore on startup, retrieve persistedItem
+ * @author acfischer42 - coalesced write-behind of pending points
  */
 @NonNullByDefault
 @Component(service = { PersistenceService.class,
@@ -117,8 +125,19 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private record Point(long timestamp, double value) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
+    private static final String CONFIG_FLUSH_INTERVAL = "flushInterval";
+    private static final String CONFIG_WRITE_THREADS = "writeThreads";
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String BACKEND_FILE = "file";
+    private static final String BACKEND_NIO = "nio";
+    private static final int DEFAULT_FLUSH_INTERVAL = 1;
+    private static final int DEFAULT_WRITE_THREADS = 1;
+
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
@@ -139,9 +158,23 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    // backend used to access the database files, null for the rrd4j default, only set on activation
+    private static volatile @Nullable RrdBackendFactory backendFactory;
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
+    private String backend = "";
+
+    private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private int writeThreads = DEFAULT_WRITE_THREADS;
+    private @Nullable ScheduledFuture<?> storeJob;
+    private @Nullable ExecutorService writeExecutor;
+    // guards flushes and the writer configuration, must not be the service monitor used by createDB
+    private final Object writeLock = new Object();
+
+    private final AtomicLong storedPoints = new AtomicLong();
+    private final AtomicLong fileUpdates = new AtomicLong();
 
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
@@ -151,12 +184,24 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
-    private final ScheduledFuture<?> storeJob;
+    /**
+     * Creates a builder for a database using the shared pool and the configured backend.
+     */
+    public static Builder getDatabaseBuilder() {
+        Builder builder = RrdDb.getBuilder();
+        builder.setPool(DATABASE_POOL);
+        RrdBackendFactory factory = backendFactory;
+        if (factory != null) {
+            builder.setBackendFactory(factory);
+        }
+        return builder;
+    }
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
-        storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
+        // databases opened through the pool keep their backend, so it is only applied before any is opened
+        backend = configureBackend(config.get(CONFIG_BACKEND));
         modified(config);
         active = true;
     }
@@ -205,6 +250,12 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        configureWriter(getIntOption(config, CONFIG_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL),
+                getIntOption(config, CONFIG_WRITE_THREADS, DEFAULT_WRITE_THREADS));
+        if (active && !backend.equals(getBackendName(config.get(CONFIG_BACKEND)))) {
+            logger.info("The changed backend is used after the persistence service has been restarted");
+        }
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -219,6 +270,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 continue;
             }
 
+            if (CONFIG_FLUSH_INTERVAL.equals(key) || CONFIG_WRITE_THREADS.equals(key) || CONFIG_BACKEND.equals(key)) {
+                // service options, already processed
+                continue;
+            }
+
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
                 logger.debug("config '{}' should have the format 'name.configkey'", key);
@@ -269,13 +325,93 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private int getIntOption(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.toString().trim());
+            if (intValue >= 1) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        logger.warn("Ignoring illegal value '{}' for '{}', using {}", value, key, defaultValue);
+        return defaultValue;
+    }
+
+    private static String getBackendName(@Nullable Object backend) {
+        return backend == null ? "" : backend.toString().trim().toLowerCase();
+    }
+
+    private String configureBackend(@Nullable Object backend) {
+        String name = getBackendName(backend);
+        switch (name) {
+            case BACKEND_NIO:
+                // memory-mapped files, changes are synced to disk periodically
+                if (!(backendFactory instanceof RrdNioBackendFactory)) {
+                    backendFactory = new RrdNioBackendFactory();
+                }
+                break;
+            case BACKEND_FILE:
+                if (!(backendFactory instanceof RrdRandomAccessFileBackendFactory)) {
+                    backendFactory = new RrdRandomAccessFileBackendFactory();
+                }
+                break;
+            case "":
+                backendFactory = null;
+                break;
+            default:
+                logger.warn("Ignoring unknown backend '{}', using the default backend", backend);
+                backendFactory = null;
+        }
+        return name;
+    }
+
+    private void configureWriter(int flushInterval, int writeThreads) {
+        synchronized (writeLock) {
+            ScheduledFuture<?> storeJob = this.storeJob;
+            if (storeJob == null || flushInterval != this.flushInterval) {
+                if (storeJob != null) {
+                    storeJob.cancel(false);
+                }
+                this.storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), flushInterval, flushInterval,
+                        TimeUnit.SECONDS);
+                this.flushInterval = flushInterval;
+            }
+            if (writeThreads != this.writeThreads || (writeThreads > 1 && writeExecutor == null)) {
+                ExecutorService writeExecutor = this.writeExecutor;
+                if (writeExecutor != null) {
+                    writeExecutor.shutdown();
+                }
+                this.writeExecutor = writeThreads > 1
+                        ? Executors.newFixedThreadPool(writeThreads, new NamedThreadFactory("RRD4j-writer"))
+                        : null;
+                this.writeThreads = writeThreads;
+            }
+        }
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
-        storeJob.cancel(false);
+        ScheduledFuture<?> storeJob = this.storeJob;
+        if (storeJob != null) {
+            storeJob.cancel(false);
+        }
 
         // make sure we really store everything
         doStore(true);
+
+        synchronized (writeLock) {
+            ExecutorService writeExecutor = this.writeExecutor;
+            if (writeExecutor != null) {
+                writeExecutor.shutdown();
+                this.writeExecutor = null;
+            }
+        }
     }
 
     @Override
@@ -341,22 +477,63 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Writes all pending points whose second has passed. The points are grouped by database file, so that every file
+     * is opened, updated and released only once per flush, and the files are processed in the order of their names.
+     */
     private void doStore(boolean force) {
+        synchronized (writeLock) {
+            doStoreLocked(force);
+        }
+    }
+
+    private void doStoreLocked(boolean force) {
         long now = System.currentTimeMillis() / 1000;
+        Map<String, List<Point>> pendingPoints = new TreeMap<>();
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+                pendingPoints.computeIfAbsent(entry.getKey().name, name -> new ArrayList<>())
+                        .add(new Point(entry.getKey().timestamp, entry.getValue()));
             } else {
-                return;
+                break;
             }
         }
+        if (pendingPoints.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, List<Point>>> files = new ArrayList<>(pendingPoints.entrySet());
+        ExecutorService writeExecutor = this.writeExecutor;
+        if (writeExecutor == null || files.size() == 1) {
+            files.forEach(file -> writePointsToDatabase(file.getKey(), file.getValue()));
+            return;
+        }
+
+        // split the sorted files in consecutive chunks, so that each writer processes its files in order
+        int chunkSize = (files.size() + writeThreads - 1) / writeThreads;
+        List<Callable<@Nullable Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += chunkSize) {
+            List<Map.Entry<String, List<Point>>> chunk = files.subList(i, Math.min(i + chunkSize, files.size()));
+            tasks.add(() -> {
+                chunk.forEach(file -> writePointsToDatabase(file.getKey(), file.getValue()));
+                return null;
+            });
+        }
+        try {
+            writeExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException e) {
+            logger.debug("Writer threads are not available, storing points in the current thread");
+            files.forEach(file -> writePointsToDatabase(file.getKey(), file.getValue()));
+        }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    private void writePointsToDatabase(String name, List<Point> points) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -367,7 +544,23 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
-        ConsolFun function = getConsolidationFunction(db);
+        try {
+            ConsolFun function = getConsolidationFunction(db);
+            for (Point point : points) {
+                writePointToDatabase(db, function, name, point.value(), point.timestamp());
+            }
+            storedPoints.addAndGet(points.size());
+            fileUpdates.incrementAndGet();
+        } finally {
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void writePointToDatabase(RrdDb db, ConsolFun function, String name, double value, long timestamp) {
         if (function != ConsolFun.AVERAGE) {
             try {
                 // we store the last value again, so that the value change
@@ -401,11 +594,24 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
+    }
+
+    /**
+     * Number of points waiting to be written.
+     */
+    public int getPendingPoints() {
+        return storageMap.size();
+    }
+
+    public long getStoredPoints() {
+        return storedPoints.get();
+    }
+
+    /**
+     * Number of open/update/release cycles of database files.
+     */
+    public long getFileUpdates() {
+        return fileUpdates.get();
     }
 
     @Override
@@ -700,18 +906,38 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
-        RrdDb db = null;
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         Path path = getDatabasePath(alias);
+        if (Files.exists(path)) {
+            // existing files are opened without locking, so that queries of different items can run in parallel
+            try {
+                Builder builder = getDatabaseBuilder();
+                builder.setPath(path.toString());
+                return builder.build();
+            } catch (IOException e) {
+                logger.error("Could not open rrd4j database file '{}': {}", path, e.getMessage());
+                return null;
+            } catch (RejectedExecutionException e) {
+                // this happens if the system is shut down
+                logger.debug("Could not open rrd4j database file '{}': {}", path, e.getMessage());
+                return null;
+            }
+        } else if (createFileIfAbsent) {
+            return createDB(alias, path);
+        }
+        return null;
+    }
+
+    private synchronized @Nullable RrdDb createDB(String alias, Path path) {
+        RrdDb db = null;
         try {
-            Builder builder = RrdDb.getBuilder();
-            builder.setPool(DATABASE_POOL);
+            Builder builder = getDatabaseBuilder();
 
             if (Files.exists(path)) {
-                // recreate the RrdDb instance from the file
+                // created concurrently
                 builder.setPath(path.toString());
                 db = builder.build();
-            } else if (createFileIfAbsent) {
+            } else {
                 if (!Files.exists(DB_FOLDER)) {
                     Files.createDirectories(DB_FOLDER);
                 }
@@ -21,8 +21,16 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.imageio.ImageIO;
 import javax.servlet.Servlet;
@@ -33,6 +41,7 @@ import javax.servlet.ServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -50,6 +59,7 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
 import org.rrd4j.ConsolFun;
+import org.rrd4j.core.FetchData;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.graph.RrdGraph;
@@ -72,6 +82,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
  * @author Jan N. Klug - a few improvements
+ * @author acfischer42 - parallel fetching of series
  *
  */
 @NonNullByDefault
@@ -95,6 +106,10 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
     private static final Duration DEFAULT_PERIOD = Duration.ofDays(1);
 
+    // chart windows are aligned to this resolution, so that fetched series can be reused by subsequent requests
+    private static final long FETCH_ALIGNMENT_SECONDS = 10;
+    private static final int FETCH_CACHE_SIZE = 64;
+
     private static final Map<String, Duration> PERIODS = Map.ofEntries( //
             entry("h", Duration.ofHours(1)), entry("4h", Duration.ofHours(4)), //
             entry("8h", Duration.ofHours(8)), entry("12h", Duration.ofHours(12)), //
@@ -110,6 +125,25 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
 
+    private final ExecutorService fetchExecutor = ThreadPoolManager.getPool("RRD4jChart");
+    private final Map<FetchKey, FetchedSeries> fetchCache = new LinkedHashMap<>(FETCH_CACHE_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<FetchKey, FetchedSeries> eldest) {
+            return size() > FETCH_CACHE_SIZE;
+        }
+    };
+
+    private record Series(Item item, @Nullable String alias, int counter) {
+    }
+
+    private record FetchKey(String rrdName, long start, long end, long resolution) {
+    }
+
+    protected record FetchedSeries(ConsolFun consolFun, @Nullable FetchData data) {
+    }
+
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
             final @Reference TimeZoneProvider timeZoneProvider,
@@ -183,33 +217,27 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @param fetched the prefetched data of the item
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
+    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter,
+            FetchedSeries fetched) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
-        String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
-        ConsolFun consolFun;
+        String rrdName = getRrdName(item, alias);
         if (label != null && label.contains("[") && label.contains("]")) {
             label = label.substring(0, label.indexOf('['));
         }
-        try {
-            Builder builder = RrdDb.getBuilder();
-            builder.setPool(RRD4jPersistenceService.getDatabasePool());
-            builder.setPath(rrdName);
-
-            RrdDb db = builder.build();
-            consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
-            db.close();
-        } catch (IOException e) {
-            consolFun = ConsolFun.MAX;
+        FetchData data = fetched.data();
+        if (data != null) {
+            graphDef.datasource(Integer.toString(counter), "state", data);
+        } else {
+            graphDef.datasource(Integer.toString(counter), rrdName, "state", fetched.consolFun()); // RRD4jService.getConsolidationFunction(item));
         }
         if (item instanceof NumberItem) {
             // we only draw a line
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
             graphDef.line(Integer.toString(counter), color, label, 2);
         } else {
             // we draw a line and fill the area beneath it with a transparent color
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
             Color areaColor = AREACOLORS[counter % LINECOLORS.length];
 
             graphDef.area(Integer.toString(counter), areaColor);
@@ -217,6 +245,46 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    private String getRrdName(Item item, @Nullable String alias) {
+        return RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
+    }
+
+    /**
+     * Fetches the data of an item, recently fetched windows are taken from the cache.
+     *
+     * @return the fetched data, or no data if the database could not be read
+     */
+    private FetchedSeries fetch(String rrdName, long start, long end, long resolution) {
+        FetchKey key = new FetchKey(rrdName, start, end, resolution);
+        synchronized (fetchCache) {
+            FetchedSeries cached = fetchCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        FetchedSeries fetched;
+        try {
+            Builder builder = RRD4jPersistenceService.getDatabaseBuilder();
+            builder.setPath(rrdName);
+
+            RrdDb db = builder.build();
+            try {
+                ConsolFun consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+                fetched = new FetchedSeries(consolFun,
+                        db.createFetchRequest(consolFun, start, end, resolution).fetchData());
+            } finally {
+                db.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not fetch data from rrd4j database '{}': {}", rrdName, e.getMessage());
+            return new FetchedSeries(ConsolFun.MAX, null);
+        }
+        synchronized (fetchCache) {
+            fetchCache.put(key, fetched);
+        }
+        return fetched;
+    }
+
     @Override
     public void init(@Nullable ServletConfig config) throws ServletException {
     }
@@ -261,6 +329,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 .get(RRD4jPersistenceService.SERVICE_ID);
 
         int seriesCounter = 0;
+        List<Series> series = new ArrayList<>();
 
         // Loop through all the items
         if (items != null) {
@@ -268,7 +337,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                series.add(new Series(item, alias, seriesCounter++));
             }
         }
 
@@ -280,7 +349,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        series.add(new Series(member, alias, seriesCounter++));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -288,6 +357,25 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             }
         }
 
+        // Fetch the data of all series in parallel
+        long start = Math.floorDiv(startTime.toEpochSecond(), FETCH_ALIGNMENT_SECONDS) * FETCH_ALIGNMENT_SECONDS;
+        long end = Math.floorDiv(endTime.toEpochSecond() + FETCH_ALIGNMENT_SECONDS - 1, FETCH_ALIGNMENT_SECONDS)
+                * FETCH_ALIGNMENT_SECONDS;
+        long resolution = Math.max(1, (end - start) / Math.max(width, 1));
+        List<Future<FetchedSeries>> futures = new ArrayList<>();
+        for (Series s : series) {
+            String rrdName = getRrdName(s.item(), s.alias());
+            try {
+                futures.add(fetchExecutor.submit(() -> fetch(rrdName, start, end, resolution)));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(fetch(rrdName, start, end, resolution)));
+            }
+        }
+        for (int i = 0; i < series.size(); i++) {
+            Series s = series.get(i);
+            addLine(graphDef, s.item(), s.alias(), s.counter(), getFetchedSeries(futures.get(i)));
+        }
+
         // Write the chart as a PNG image
         try {
             RrdGraph graph = new RrdGraph(graphDef);
@@ -300,6 +388,18 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    private FetchedSeries getFetchedSeries(Future<FetchedSeries> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.debug("Could not fetch data for chart: {}", e.getMessage());
+        }
+        // let the graph read the database itself
+        return new FetchedSeries(ConsolFun.MAX, null);
+    }
+
     @Override
     public ImageType getChartType() {
         return ImageType.png;
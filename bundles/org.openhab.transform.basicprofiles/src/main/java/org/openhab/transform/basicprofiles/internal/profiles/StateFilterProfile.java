@@ -17,12 +17,12 @@ import static org.openhab.transform.basicprofiles.internal.factory.BasicProfiles
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -49,7 +49,6 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
-import org.openhab.core.util.Statistics;
 import org.openhab.transform.basicprofiles.internal.config.StateFilterProfileConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +61,7 @@ import org.slf4j.LoggerFactory;
  * @author Jimmy Tanagra - Expanded the comparison types
  * @author Jimmy Tanagra - Added support for functions
  * @author Andrew Fiddian-Green - Normalise calculations based on the Unit of the linked Item
+ * @author acfischer42 - Incrementally maintained window aggregates
  */
 @NonNullByDefault
 public class StateFilterProfile implements StateProfile {
@@ -109,8 +109,8 @@ public class StateFilterProfile implements StateProfile {
     // single cached numeric state for use in conjunction with DELTA and DELTA_PERCENT functions
     private Optional<State> acceptedState = Optional.empty();
 
-    // cached list of prior numeric states for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions
-    private final List<State> previousStates = new LinkedList<>();
+    // windows of prior numeric states by size for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions
+    private final Map<Integer, StateWindow> windows = new HashMap<>();
 
     private final int windowSize;
 
@@ -148,9 +148,25 @@ public class StateFilterProfile implements StateProfile {
         }
 
         windowSize = maxWindowSize;
+        for (StateCondition condition : conditions) {
+            addWindow(condition.lhsState);
+            addWindow(condition.rhsState);
+        }
         configMismatchState = parseState(config.mismatchState, context.getAcceptedDataTypes());
     }
 
+    private void addWindow(@Nullable State state) {
+        if (state instanceof FunctionType function && function.getWindowSize() > 0) {
+            StateWindow window = windows.computeIfAbsent(function.getEffectiveWindowSize(), StateWindow::new);
+            switch (function.getType()) {
+                case MIN, MAX -> window.trackMinMax();
+                case MEDIAN -> window.trackMedian();
+                default -> {
+                }
+            }
+        }
+    }
+
     private List<StateCondition> parseConditions(List<String> conditions, String separator) {
         List<StateCondition> parsedConditions = new ArrayList<>();
 
@@ -219,11 +235,8 @@ public class StateFilterProfile implements StateProfile {
         } else {
             logger.debug("Received state update from handler: {}, not forwarded to item", state);
         }
-        if (windowSize > 0 && isCacheable(state)) {
-            previousStates.add(state);
-            if (previousStates.size() > windowSize) {
-                previousStates.removeFirst();
-            }
+        if (!windows.isEmpty() && isCacheable(state) && toBigDecimal(state) instanceof BigDecimal value) {
+            windows.values().forEach(window -> window.add(value));
         }
     }
 
@@ -570,23 +583,22 @@ public class StateFilterProfile implements StateProfile {
                 case DELTA -> result = calculateDelta();
                 case DELTA_PERCENT -> result = calculateDeltaPercent();
                 default -> {
-                    int size = previousStates.size();
-                    Integer start = windowSize.map(w -> size - w).orElse(0);
-                    List<BigDecimal> values = toBigDecimals(
-                            start == null || start <= 0 ? previousStates : previousStates.subList(start, size));
-                    if (values.isEmpty()) {
+                    StateWindow window = windows.get(getEffectiveWindowSize());
+                    @Nullable
+                    BigDecimal value = null;
+                    if (window == null || window.size() == 0) {
                         logger.debug("Not enough states to calculate {}", type);
-                        result = null;
                     } else {
-                        switch (type) {
-                            case AVG, AVERAGE -> result = calculateAverage(values);
-                            case MEDIAN -> result = calculateMedian(values);
-                            case STDDEV -> result = calculateStdDev(values);
-                            case MIN -> result = calculateMin(values);
-                            case MAX -> result = calculateMax(values);
-                            default -> result = null;
-                        }
+                        value = switch (type) {
+                            case AVG, AVERAGE -> window.average();
+                            case MEDIAN -> window.median();
+                            case STDDEV -> window.standardDeviation();
+                            case MIN -> window.min();
+                            case MAX -> window.max();
+                            default -> null;
+                        };
                     }
+                    result = value != null ? toState(value) : null;
                 }
             }
             return result;
@@ -631,6 +643,13 @@ public class StateFilterProfile implements StateProfile {
             return windowSize.isPresent() ? windowSize.get() : DEFAULT_WINDOW_SIZE;
         }
 
+        /**
+         * Functions without an explicit window size are calculated over the largest window of all conditions.
+         */
+        int getEffectiveWindowSize() {
+            return windowSize.orElse(StateFilterProfile.this.windowSize);
+        }
+
         public Function getType() {
             return type;
         }
@@ -650,40 +669,6 @@ public class StateFilterProfile implements StateProfile {
             return toFullString();
         }
 
-        private @Nullable State calculateAverage(List<BigDecimal> values) {
-            return Optional
-                    .ofNullable(values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                            .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32))
-                    .map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateMedian(List<BigDecimal> values) {
-            return Optional.ofNullable(Statistics.median(values)).map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateStdDev(List<BigDecimal> values) {
-            BigDecimal average = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_EVEN);
-
-            BigDecimal variance = values.stream().map(value -> {
-                BigDecimal delta = value.subtract(average);
-                return delta.multiply(delta);
-            }).reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(values.size()),
-                    MathContext.DECIMAL32);
-
-            return toState(variance.sqrt(MathContext.DECIMAL32));
-        }
-
-        private @Nullable State calculateMin(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().min(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
-        private @Nullable State calculateMax(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().max(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
         private @Nullable State calculateDelta() {
             return acceptedState.isPresent() //
                     && toBigDecimal(acceptedState.get()) instanceof BigDecimal acceptedValue
@@ -743,16 +728,6 @@ public class StateFilterProfile implements StateProfile {
                 : null;
     }
 
-    /**
-     * Convert a list of {@link State} to a list of {@link BigDecimal} values.
-     *
-     * @param states list of {@link State} values.
-     * @return list of {@link BigDecimal} values.
-     */
-    protected List<BigDecimal> toBigDecimals(List<? extends State> states) {
-        return states.stream().map(s -> toBigDecimal(s)).filter(Objects::nonNull).toList();
-    }
-
     /**
      * Create a new {@link State} from the given {@link BigDecimal} value. If there is a 'systemUnit' it creates a
      * {@link QuantityType} based on that unit. Otherwise it creates a {@link DecimalType}.
@@ -792,8 +767,8 @@ public class StateFilterProfile implements StateProfile {
 
     /**
      * Check if the given {@link State} is suitable to be cached. This means it is suitable to add to the
-     * 'previousStates' list and/or to set to the 'acceptedState' field. This means that either there is a
-     * 'systemUnit' with which 'state' is compatible, or it can provide a {@link DecimalType} value.
+     * ring buffers of prior states in 'windows' and/or to set to the 'acceptedState' field. This means that either
+     * there is a 'systemUnit' with which 'state' is compatible, or it can provide a {@link DecimalType} value.
      *
      * @param state the {@link State} to be tested.
      * @return true if the 'state' is suitable to be cached.
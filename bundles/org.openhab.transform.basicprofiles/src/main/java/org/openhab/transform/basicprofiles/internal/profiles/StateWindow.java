@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Sliding window over the last numeric states with incrementally maintained aggregates.
+ *
+ * The sum and the sum of squares are updated when a value enters or leaves the window. Minimum and maximum are kept in
+ * monotonic deques and the median in two sorted multisets holding the lower and the upper half of the values, so that
+ * each update is O(log n) at most. All arithmetic is done on {@link BigDecimal}, so the results are the same as when
+ * aggregating the whole window.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+class StateWindow {
+
+    private final @Nullable BigDecimal[] values;
+    private int head = 0;
+    private int size = 0;
+
+    private BigDecimal sum = BigDecimal.ZERO;
+    private BigDecimal sumOfSquares = BigDecimal.ZERO;
+
+    private boolean trackMinMax = false;
+    private final Deque<BigDecimal> minimums = new ArrayDeque<>();
+    private final Deque<BigDecimal> maximums = new ArrayDeque<>();
+
+    private boolean trackMedian = false;
+    private final NavigableMap<BigDecimal, Integer> lowerHalf = new TreeMap<>();
+    private final NavigableMap<BigDecimal, Integer> upperHalf = new TreeMap<>();
+    private int lowerSize = 0;
+    private int upperSize = 0;
+
+    StateWindow(int capacity) {
+        values = new BigDecimal[capacity];
+    }
+
+    /**
+     * Enables tracking of minimum and maximum. Must be called before values are added.
+     */
+    void trackMinMax() {
+        trackMinMax = true;
+    }
+
+    /**
+     * Enables tracking of the median. Must be called before values are added.
+     */
+    void trackMedian() {
+        trackMedian = true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a value, removing the oldest one if the window is full.
+     */
+    void add(BigDecimal value) {
+        if (values.length == 0) {
+            return;
+        }
+        if (size == values.length) {
+            BigDecimal oldest = values[head];
+            if (oldest != null) {
+                remove(oldest);
+            }
+        } else {
+            size++;
+        }
+        values[head] = value;
+        head = (head + 1) % values.length;
+
+        sum = sum.add(value);
+        sumOfSquares = sumOfSquares.add(value.multiply(value));
+        if (trackMinMax) {
+            while (!minimums.isEmpty() && minimums.getLast().compareTo(value) > 0) {
+                minimums.removeLast();
+            }
+            minimums.addLast(value);
+            while (!maximums.isEmpty() && maximums.getLast().compareTo(value) < 0) {
+                maximums.removeLast();
+            }
+            maximums.addLast(value);
+        }
+        if (trackMedian) {
+            if (lowerHalf.isEmpty() || value.compareTo(lowerHalf.lastKey()) <= 0) {
+                increment(lowerHalf, value);
+                lowerSize++;
+            } else {
+                increment(upperHalf, value);
+                upperSize++;
+            }
+            rebalance();
+        }
+    }
+
+    private void remove(BigDecimal value) {
+        sum = sum.subtract(value);
+        sumOfSquares = sumOfSquares.subtract(value.multiply(value));
+        if (trackMinMax) {
+            if (!minimums.isEmpty() && minimums.getFirst().compareTo(value) == 0) {
+                minimums.removeFirst();
+            }
+            if (!maximums.isEmpty() && maximums.getFirst().compareTo(value) == 0) {
+                maximums.removeFirst();
+            }
+        }
+        if (trackMedian) {
+            if (value.compareTo(lowerHalf.lastKey()) <= 0) {
+                decrement(lowerHalf, value);
+                lowerSize--;
+            } else {
+                decrement(upperHalf, value);
+                upperSize--;
+            }
+            rebalance();
+        }
+    }
+
+    /**
+     * Keeps the lower half equal in size or one larger than the upper half.
+     */
+    private void rebalance() {
+        if (lowerSize > upperSize + 1) {
+            BigDecimal value = lowerHalf.lastKey();
+            decrement(lowerHalf, value);
+            increment(upperHalf, value);
+            lowerSize--;
+            upperSize++;
+        } else if (upperSize > lowerSize) {
+            BigDecimal value = upperHalf.firstKey();
+            decrement(upperHalf, value);
+            increment(lowerHalf, value);
+            upperSize--;
+            lowerSize++;
+        }
+    }
+
+    private static void increment(NavigableMap<BigDecimal, Integer> half, BigDecimal value) {
+        half.merge(value, 1, Integer::sum);
+    }
+
+    private static void decrement(NavigableMap<BigDecimal, Integer> half, BigDecimal value) {
+        half.computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    @Nullable
+    BigDecimal average() {
+        return size == 0 ? null : sum.divide(BigDecimal.valueOf(size), MathContext.DECIMAL32);
+    }
+
+    /**
+     * @return the population standard deviation around the average rounded to two decimals
+     */
+    @Nullable
+    BigDecimal standardDeviation() {
+        if (size == 0) {
+            return null;
+        }
+        BigDecimal count = BigDecimal.valueOf(size);
+        BigDecimal average = sum.divide(count, 2, RoundingMode.HALF_EVEN);
+        // sum((v - avg)^2) = sum(v^2) - 2 * avg * sum(v) + n * avg^2
+        BigDecimal squaredDeltas = sumOfSquares.subtract(average.multiply(sum).multiply(BigDecimal.TWO))
+                .add(average.multiply(average).multiply(count));
+        return squaredDeltas.divide(count, MathContext.DECIMAL32).sqrt(MathContext.DECIMAL32);
+    }
+
+    @Nullable
+    BigDecimal min() {
+        return minimums.peekFirst();
+    }
+
+    @Nullable
+    BigDecimal max() {
+        return maximums.peekFirst();
+    }
+
+    @Nullable
+    BigDecimal median() {
+        if (size == 0) {
+            return null;
+        }
+        BigDecimal lower = lowerHalf.lastKey();
+        return lowerSize > upperSize ? lower : lower.add(upperHalf.firstKey()).divide(BigDecimal.TWO);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Basic unit tests for {@link StateWindow}.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class StateWindowTest {
+
+    @Test
+    public void testEmptyWindow() {
+        StateWindow window = new StateWindow(3);
+        window.trackMinMax();
+        window.trackMedian();
+
+        assertNull(window.average());
+        assertNull(window.standardDeviation());
+        assertNull(window.min());
+        assertNull(window.max());
+        assertNull(window.median());
+    }
+
+    @Test
+    public void testAggregatesMatchFullCalculation() {
+        Random random = new Random(42);
+        StateWindow window = new StateWindow(7);
+        window.trackMinMax();
+        window.trackMedian();
+        List<BigDecimal> values = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            // few distinct values to have duplicates in the window
+            BigDecimal value = BigDecimal.valueOf(random.nextInt(20) - 10, 1);
+            window.add(value);
+            values.add(value);
+            List<BigDecimal> expected = values.subList(Math.max(0, values.size() - 7), values.size());
+
+            assertEquals(expected.size(), window.size());
+            assertEquals(0, average(expected).compareTo(Objects.requireNonNull(window.average())));
+            assertEquals(0, standardDeviation(expected).compareTo(Objects.requireNonNull(window.standardDeviation())));
+            assertEquals(0, expected.stream().min(BigDecimal::compareTo).orElseThrow()
+                    .compareTo(Objects.requireNonNull(window.min())));
+            assertEquals(0, expected.stream().max(BigDecimal::compareTo).orElseThrow()
+                    .compareTo(Objects.requireNonNull(window.max())));
+            assertEquals(0, median(expected).compareTo(Objects.requireNonNull(window.median())));
+        }
+    }
+
+    private static BigDecimal average(List<BigDecimal> values) {
+        return values.stream().reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(values.size()),
+                MathContext.DECIMAL32);
+    }
+
+    private static BigDecimal standardDeviation(List<BigDecimal> values) {
+        BigDecimal average = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_EVEN);
+        return values.stream().map(value -> value.subtract(average).pow(2)).reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32).sqrt(MathContext.DECIMAL32);
+    }
+
+    private static BigDecimal median(List<BigDecimal> values) {
+        List<BigDecimal> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle)
+                : sorted.get(middle - 1).add(sorted.get(middle)).divide(BigDecimal.TWO);
+    }
+}
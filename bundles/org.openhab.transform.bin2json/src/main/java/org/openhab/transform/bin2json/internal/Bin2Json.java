@@ -12,10 +12,12 @@
  */
 package org.openhab.transform.bin2json.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
@@ -26,6 +28,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import com.igormaznitsa.jbbp.JBBPParser;
 import com.igormaznitsa.jbbp.exceptions.JBBPException;
+import com.igormaznitsa.jbbp.io.JBBPBitInputStream;
 import com.igormaznitsa.jbbp.model.JBBPAbstractArrayField;
 import com.igormaznitsa.jbbp.model.JBBPAbstractField;
 import com.igormaznitsa.jbbp.model.JBBPFieldArrayBit;
@@ -66,7 +69,11 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  * json.toString() = {"a":3,"b":-6,"c":255}}
  * </pre>
  *
+ * <p>
+ * The parser rule is compiled once, so instances can be reused to convert any number of inputs.
+ *
  * @author Pauli Anttila - Initial contribution
+ * @author acfischer42 - Convert streams of consecutive records
  *
  */
 public class Bin2Json {
@@ -137,6 +144,61 @@ public class Bin2Json {
         }
     }
 
+    /**
+     * Convert consecutive records in hexadecimal string format to a JSON array.
+     *
+     * @param hexString Data in hexadecimal string format, containing one record after another.
+     * @return Gson {@link JsonArray} containing a JSON object for each record
+     * @throws ConversionException if a record can't be parsed, e.g. the last record is incomplete
+     */
+    public JsonArray convertRecords(String hexString) throws ConversionException {
+        byte[] data;
+        try {
+            data = HexUtils.hexToBytes(hexString);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException(String.format("Illegal hexstring , reason: %s", e.getMessage(), e));
+        }
+        JsonArray records = new JsonArray();
+        convertRecords(new ByteArrayInputStream(data), records::add);
+        return records;
+    }
+
+    /**
+     * Convert consecutive records from {@link InputStream} to JSON objects until the end of the stream is reached.
+     * Each JSON object is passed to the consumer as soon as its record has been read.
+     *
+     * @param inputStream stream containing one record after another
+     * @param consumer receives a JSON object for each record
+     * @return number of converted records
+     * @throws ConversionException if a record can't be parsed, e.g. the last record is incomplete, or if the parser
+     *             rule does not consume any data
+     */
+    public int convertRecords(InputStream inputStream, Consumer<JsonObject> consumer) throws ConversionException {
+        // all records are read from the same bit stream, so no data is lost between records
+        JBBPBitInputStream bitStream = inputStream instanceof JBBPBitInputStream stream ? stream
+                : new JBBPBitInputStream(inputStream);
+        int records = 0;
+        try {
+            while (bitStream.hasAvailableData()) {
+                long start = bitStream.getCounter();
+                JBBPFieldStruct record = parser.parse(bitStream);
+                if (bitStream.getCounter() == start) {
+                    // the next record would be read from the same position again
+                    throw new ConversionException("Parser rule does not consume any data");
+                }
+                consumer.accept(convert(record));
+                records++;
+            }
+            return records;
+        } catch (IOException e) {
+            throw new ConversionException(
+                    String.format("Unexpected error in record %d, reason: %s", records + 1, e.getMessage()), e);
+        } catch (JBBPException e) {
+            throw new ConversionException(
+                    String.format("Unexpected error in record %d, reason: %s", records + 1, e.getMessage()), e);
+        }
+    }
+
     private JsonObject convert(JBBPFieldStruct data) throws ConversionException {
         try {
             LocalDateTime start = LocalDateTime.now();
@@ -12,6 +12,9 @@
  */
 package org.openhab.transform.bin2json.internal;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
@@ -24,14 +27,32 @@ import org.slf4j.LoggerFactory;
  * The implementation of {@link TransformationService} which transforms the
  * hexa string formatted binary data by Binary Block Parser syntax to JSON format.
  *
+ * <p>
+ * If the syntax starts with <code>records:</code>, the data is decoded as consecutive records of the given syntax and
+ * transformed to a JSON array.
+ *
  * @author Pauli Anttila - Initial contribution
+ * @author acfischer42 - Cache compiled parser rules, convert consecutive records
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=BIN2JSON" })
 public class Bin2JsonTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_CONVERTERS = 64;
+    private static final String RECORDS_PREFIX = "records:";
+
     private Logger logger = LoggerFactory.getLogger(Bin2JsonTransformationService.class);
 
+    private final Map<String, Bin2Json> cachedConverters;
+
+    public Bin2JsonTransformationService() {
+        this(MAX_CACHED_CONVERTERS);
+    }
+
+    Bin2JsonTransformationService(int maxCachedConverters) {
+        cachedConverters = new LRUMap<>(maxCachedConverters);
+    }
+
     /**
      * Transforms the input <code>source</code> by Java Binary Block Parser syntax.
      *
@@ -46,7 +67,11 @@ public class Bin2JsonTransformationService implements TransformationService {
         String result = "";
 
         try {
-            result = String.valueOf(new Bin2Json(syntax).convert(source));
+            if (syntax.startsWith(RECORDS_PREFIX)) {
+                result = String.valueOf(getConverter(syntax.substring(RECORDS_PREFIX.length())).convertRecords(source));
+            } else {
+                result = String.valueOf(getConverter(syntax).convert(source));
+            }
             logger.debug("transformation resulted '{}'", result);
             return result;
         } catch (ConversionException e) {
@@ -56,4 +81,30 @@ public class Bin2JsonTransformationService implements TransformationService {
                     result);
         }
     }
+
+    Bin2Json getConverter(String syntax) throws ConversionException {
+        synchronized (cachedConverters) {
+            Bin2Json converter = cachedConverters.get(syntax);
+            if (converter == null) {
+                converter = new Bin2Json(syntax);
+                cachedConverters.put(syntax, converter);
+            }
+            return converter;
+        }
+    }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * Tests for {@link Bin2JsonTransformationService}
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class Bin2JsonTransformationServiceTest {
+
+    private final Bin2JsonTransformationService service = new Bin2JsonTransformationService(2);
+
+    @Test
+    public void testTransform() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", service.transform("byte a; byte b; ubyte c;", "03FAFF"));
+    }
+
+    @Test
+    public void testConverterIsReusedForSameRule() throws ConversionException {
+        Bin2Json converter = service.getConverter("byte a;");
+
+        assertSame(converter, service.getConverter("byte a;"));
+        assertNotSame(converter, service.getConverter("ubyte a;"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedConverterIsEvicted() throws ConversionException {
+        Bin2Json first = service.getConverter("byte a;");
+        Bin2Json second = service.getConverter("ubyte a;");
+        service.getConverter("byte a;");
+        service.getConverter("short a;");
+
+        assertSame(first, service.getConverter("byte a;"));
+        assertNotSame(second, service.getConverter("ubyte a;"));
+    }
+
+    @Test
+    public void testRecords() throws TransformationException {
+        assertEquals("[{\"id\":1,\"value\":10},{\"id\":2,\"value\":-1}]",
+                service.transform("records:ubyte id; short value;", "01000A02FFFF"));
+    }
+
+    @Test
+    public void testRecordsWithoutData() throws TransformationException {
+        assertEquals("[]", service.transform("records:ubyte id;", ""));
+    }
+
+    @Test
+    public void testTrailingPartialRecordFails() {
+        TransformationException e = assertThrows(TransformationException.class,
+                () -> service.transform("records:ubyte id; short value;", "01000A02FF"));
+        assertTrue(String.valueOf(e.getMessage()).contains("record 2"), e.getMessage());
+    }
+
+    @Test
+    public void testRuleWithoutDataFails() {
+        TransformationException e = assertThrows(TransformationException.class,
+                () -> service.transform("records:", "0102"));
+        assertTrue(String.valueOf(e.getMessage()).contains("does not consume any data"), e.getMessage());
+    }
+}
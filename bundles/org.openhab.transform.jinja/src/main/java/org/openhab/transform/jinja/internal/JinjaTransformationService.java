@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -31,23 +32,47 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
  *
+ * <p>
+ * Parsed templates are cached, and the value is only parsed as JSON if the template refers to <code>value_json</code>.
+ *
  * @author Jochen Klein - Initial contribution
+ * @author acfischer42 - Cache parsed templates, parse JSON only when needed
  *
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String VALUE = "value";
+    private static final String VALUE_JSON = "value_json";
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
     private final Jinjava jinjava = new Jinjava();
 
+    private final Map<String, CompiledTemplate> cachedTemplates = new LRUMap<>(MAX_CACHED_TEMPLATES);
+
+    /**
+     * A parsed template, <code>root</code> is <code>null</code> if the template could not be parsed without fatal
+     * errors.
+     */
+    private record CompiledTemplate(@Nullable Node root, boolean usesJson) {
+    }
+
     /**
      * Transforms the input <code>value</code> by Jinja template.
      *
@@ -62,17 +87,22 @@ public class JinjaTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", value, template);
 
-        bindings.put("value", value);
+        CompiledTemplate compiledTemplate = compile(template);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        bindings.put(VALUE, value);
+
+        if (compiledTemplate.usesJson()) {
+            try {
+                JsonNode tree = OBJECT_MAPPER.readTree(value);
+                bindings.put(VALUE_JSON, toObject(tree));
+            } catch (IOException e) {
+                // ok, then value_json is null...
+            }
         }
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            Node root = compiledTemplate.root();
+            transformationResult = root != null ? render(template, root, bindings) : jinjava.render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
         }
@@ -82,6 +112,57 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
+    private CompiledTemplate compile(String template) {
+        synchronized (cachedTemplates) {
+            CompiledTemplate compiledTemplate = cachedTemplates.get(template);
+            if (compiledTemplate != null) {
+                return compiledTemplate;
+            }
+        }
+
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, new Context(jinjava.getGlobalContext()),
+                jinjava.getGlobalConfig());
+        Node root = null;
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            root = interpreter.parse(template);
+            if (interpreter.getErrorsCopy().stream().anyMatch(error -> error.getSeverity() == ErrorType.FATAL)) {
+                // let the regular rendering report the errors
+                root = null;
+            }
+        } catch (InterpretException e) {
+            logger.debug("Template '{}' could not be parsed: {}", template, e.getMessage());
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+
+        CompiledTemplate compiledTemplate = new CompiledTemplate(root, template.contains(VALUE_JSON));
+        synchronized (cachedTemplates) {
+            cachedTemplates.put(template, compiledTemplate);
+        }
+        return compiledTemplate;
+    }
+
+    /**
+     * Renders a parsed template the same way as {@link Jinjava#render(String, Map)} renders the template string.
+     */
+    private String render(String template, Node root, Map<String, @Nullable Object> bindings) {
+        Context context = new Context(jinjava.getGlobalContext(), bindings);
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            String result = interpreter.render(root);
+            List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                    .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+            if (!fatalErrors.isEmpty()) {
+                throw new FatalTemplateErrorsException(template, fatalErrors);
+            }
+            return result;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -111,4 +192,19 @@ public class JinjaTransformationService implements TransformationService {
                 return null;
         }
     }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
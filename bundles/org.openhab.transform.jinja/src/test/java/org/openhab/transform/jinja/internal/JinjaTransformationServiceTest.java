@@ -113,4 +113,17 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateWithNewValue() throws TransformationException {
+        String template = "{% if value_json.on %}ON{% else %}OFF{% endif %} {{ value_json.level }}";
+
+        // when rendering the same template repeatedly
+        assertEquals("ON 10", processor.transform(template, "{\"on\": true, \"level\": 10}"));
+        assertEquals("OFF 20", processor.transform(template, "{\"on\": false, \"level\": 20}"));
+
+        // then the template error is reported every time
+        assertThrows(TransformationException.class, () -> processor.transform("{{{ value }}", "world"));
+        assertThrows(TransformationException.class, () -> processor.transform("{{{ value }}", "world"));
+    }
 }
@@ -12,7 +12,9 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +26,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -34,13 +37,37 @@ import com.jayway.jsonpath.PathNotFoundException;
  *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
+ * @author acfischer42 - Cache compiled expressions and parsed documents
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_EXPRESSIONS = 256;
+    private static final int MAX_CACHED_DOCUMENTS = 8;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    // compiled JsonPath instances are immutable and can be shared between threads
+    private final Map<String, JsonPath> cachedExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, JsonPath> eldest) {
+            return size() > MAX_CACHED_EXPRESSIONS;
+        }
+    };
+
+    // several channels often extract different values from the same payload, so recently parsed documents are kept
+    private final Map<String, Object> cachedDocuments = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Object> eldest) {
+            return size() > MAX_CACHED_DOCUMENTS;
+        }
+    };
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +89,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = compile(jsonPathExpression).read(parse(source));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +105,31 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath compile(String jsonPathExpression) {
+        synchronized (cachedExpressions) {
+            JsonPath jsonPath = cachedExpressions.get(jsonPathExpression);
+            if (jsonPath == null) {
+                jsonPath = JsonPath.compile(jsonPathExpression);
+                cachedExpressions.put(jsonPathExpression, jsonPath);
+            }
+            return jsonPath;
+        }
+    }
+
+    private Object parse(String source) {
+        synchronized (cachedDocuments) {
+            Object document = cachedDocuments.get(source);
+            if (document != null) {
+                return document;
+            }
+        }
+        Object document = Configuration.defaultConfiguration().jsonProvider().parse(source);
+        synchronized (cachedDocuments) {
+            cachedDocuments.put(source, document);
+        }
+        return document;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -47,6 +47,13 @@ public class JSonPathTransformationServiceTest {
             "{ \"id\":2, \"name\":\"alice\" }" + //
             "]";
 
+    @Test
+    public void testPathsOnSameDocument() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", new String(JSON_ARRAY)));
+    }
+
     @Test
     public void testValidPath1() throws TransformationException {
         String transformedResponse = processor.transform("$[0].name", JSON_ARRAY);
@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,7 +32,12 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <b>Note:</b> the given Regular Expression must contain exactly one group!
  *
+ * <p>
+ * Compiled expressions are cached. The groups of the most recent matches are cached as well, so that several
+ * profiles extracting different groups of the same input share one match, see {@link #extract(String, String, String)}.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
+ * @author acfischer42 - Cache compiled expressions, add group extraction
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=REGEX" })
@@ -39,6 +46,40 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int MAX_CACHED_EXPRESSIONS = 256;
+    private static final int MAX_CACHED_MATCHES = 16;
+
+    private final Map<String, RegEx> cachedExpressions = new LRUMap<>(MAX_CACHED_EXPRESSIONS);
+    private final Map<MatchKey, RegExMatch> cachedMatches = new LRUMap<>(MAX_CACHED_MATCHES);
+
+    /**
+     * A parsed expression, either in substitution form or an anchored pattern to extract groups.
+     */
+    private record RegEx(Pattern pattern, @Nullable String substitution, boolean global) {
+    }
+
+    private record MatchKey(String regExpression, String source) {
+    }
+
+    /**
+     * The groups of a match, {@link #groups} is empty if the source did not match.
+     */
+    private record RegExMatch(Pattern pattern, @Nullable String[] groups) {
+        private @Nullable String group(String group) throws TransformationException {
+            try {
+                int index = Integer.parseInt(group);
+                if (index >= 0 && index < groups.length) {
+                    return groups[index];
+                }
+            } catch (NumberFormatException e) {
+                Integer index = pattern.namedGroups().get(group);
+                if (index != null) {
+                    return groups[index];
+                }
+            }
+            throw new TransformationException("the regular expression '" + pattern + "' has no group '" + group + "'");
+        }
+    }
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -48,50 +89,114 @@ public class RegExTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
 
-        String result = "";
-
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        RegEx regEx = compile(regExpression);
+        String substitution = regEx.substitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
-            } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
-            }
+            Matcher matcher = regEx.pattern().matcher(source.trim());
+            return regEx.global() ? matcher.replaceAll(substitution) : matcher.replaceFirst(substitution);
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        // the pattern is anchored, so a successful match is the only one
+        Matcher matcher = regEx.pattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
                     regExpression, source);
             return null;
         }
-        matcher.reset();
-
-        while (matcher.find()) {
-            if (matcher.groupCount() == 0) {
-                logger.info(
-                        "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
-                        regExpression);
-                continue;
+
+        if (matcher.groupCount() == 0) {
+            logger.info(
+                    "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
+                    regExpression);
+            return "";
+        }
+        if (matcher.groupCount() > 1) {
+            logger.debug(
+                    "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
+                    regExpression);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * Matches the source against the regular expression and returns one of its groups.
+     *
+     * The groups of recent matches are cached, so extracting several groups of the same source runs the regular
+     * expression only once.
+     *
+     * @param regExpression the regular expression, the substitution form is not supported
+     * @param source the input to match
+     * @param group the index or the name of the group
+     * @return the content of the group or <code>null</code> if the source doesn't match or the group didn't participate
+     *         in the match
+     * @throws TransformationException if the expression is in substitution form or has no such group
+     */
+    public @Nullable String extract(String regExpression, String source, String group) throws TransformationException {
+        MatchKey key = new MatchKey(regExpression, source);
+        RegExMatch match;
+        synchronized (cachedMatches) {
+            match = cachedMatches.get(key);
+        }
+        if (match == null) {
+            RegEx regEx = compile(regExpression);
+            if (regEx.substitution() != null) {
+                throw new TransformationException(
+                        "groups can't be extracted with the substitution form '" + regExpression + "'");
             }
+            Matcher matcher = regEx.pattern().matcher(source.trim());
+            @Nullable
+            String[] groups = new String[0];
+            if (matcher.matches()) {
+                groups = new String[matcher.groupCount() + 1];
+                for (int i = 0; i < groups.length; i++) {
+                    groups[i] = matcher.group(i);
+                }
+            }
+            match = new RegExMatch(regEx.pattern(), groups);
+            synchronized (cachedMatches) {
+                cachedMatches.put(key, match);
+            }
+        }
 
-            result = matcher.group(1);
+        if (match.groups().length == 0) {
+            logger.debug("the given regex '^{}$' doesn't match the given content '{}' -> couldn't extract group",
+                    regExpression, source);
+            return null;
+        }
+        return match.group(group);
+    }
 
-            if (matcher.groupCount() > 1) {
-                logger.debug(
-                        "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
-                        regExpression);
+    private RegEx compile(String regExpression) {
+        synchronized (cachedExpressions) {
+            RegEx regEx = cachedExpressions.get(regExpression);
+            if (regEx == null) {
+                Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+                if (substMatcher.matches()) {
+                    regEx = new RegEx(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                            "g".equals(substMatcher.group(3)));
+                } else {
+                    regEx = new RegEx(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
+                }
+                cachedExpressions.put(regExpression, regEx);
             }
+            return regEx;
+        }
+    }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
         }
 
-        return result;
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
     }
 }
@@ -13,6 +13,7 @@
 package org.openhab.transform.regex.internal.profiles;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.profiles.ProfileCallback;
 import org.openhab.core.thing.profiles.ProfileContext;
@@ -24,6 +25,7 @@ import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
+import org.openhab.transform.regex.internal.RegExTransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +33,7 @@ import org.slf4j.LoggerFactory;
  * Profile to offer the RegexTransformationservice on an ItemChannelLink
  *
  * @author Stefan Triller - initial contribution
+ * @author acfischer42 - Add group parameter
  *
  */
 @NonNullByDefault
@@ -46,11 +49,13 @@ public class RegexTransformationProfile implements StateProfile {
 
     private static final String FUNCTION_PARAM = "function";
     private static final String SOURCE_FORMAT_PARAM = "sourceFormat";
+    private static final String GROUP_PARAM = "group";
 
     @NonNullByDefault({})
     private final String function;
     @NonNullByDefault({})
     private final String sourceFormat;
+    private final @Nullable String group;
 
     public RegexTransformationProfile(ProfileCallback callback, ProfileContext context, TransformationService service) {
         this.service = service;
@@ -74,6 +79,9 @@ public class RegexTransformationProfile implements StateProfile {
             function = null;
             sourceFormat = null;
         }
+
+        Object paramGroup = context.getConfiguration().get(GROUP_PARAM);
+        group = paramGroup == null || paramGroup.toString().isBlank() ? null : paramGroup.toString().trim();
     }
 
     @Override
@@ -117,7 +125,7 @@ public class RegexTransformationProfile implements StateProfile {
     private Type transformState(Type state) {
         String result = state.toFullString();
         try {
-            result = TransformationHelper.transform(service, function, sourceFormat, state.toFullString());
+            result = TransformationHelper.transform(getTransformation(), function, sourceFormat, state.toFullString());
         } catch (TransformationException e) {
             logger.warn("Could not transform state '{}' with function '{}' and format '{}'", state, function,
                     sourceFormat);
@@ -126,4 +134,13 @@ public class RegexTransformationProfile implements StateProfile {
         logger.debug("Transformed '{}' into '{}'", state, resultType);
         return resultType;
     }
+
+    private TransformationService getTransformation() {
+        String group = this.group;
+        if (group != null && service instanceof RegExTransformationService regExService) {
+            // profiles extracting different groups of the same state share one match
+            return (function, source) -> regExService.extract(function, source, group);
+        }
+        return service;
+    }
 }
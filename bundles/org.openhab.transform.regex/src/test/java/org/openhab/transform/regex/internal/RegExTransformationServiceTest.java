@@ -75,4 +75,22 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testExtractGroups() throws TransformationException {
+        String regex = "temp=(?<temp>[\\d.]+);hum=([\\d.]+)";
+
+        // method under test
+        assertEquals("21.5", processor.extract(regex, "temp=21.5;hum=40", "temp"));
+        assertEquals("21.5", processor.extract(regex, "temp=21.5;hum=40", "1"));
+        assertEquals("40", processor.extract(regex, "temp=21.5;hum=40", "2"));
+        assertNull(processor.extract(regex, "pressure=1013", "temp"));
+        assertThrows(TransformationException.class, () -> processor.extract(regex, "temp=21.5;hum=40", "3"));
+        assertThrows(TransformationException.class, () -> processor.extract(regex, "temp=21.5;hum=40", "pressure"));
+    }
+
+    @Test
+    public void testExtractGroups_substitution() {
+        assertThrows(TransformationException.class, () -> processor.extract("s/a/b/g", "abc", "1"));
+    }
 }
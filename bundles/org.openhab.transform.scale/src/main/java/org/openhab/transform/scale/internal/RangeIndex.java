@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Index of the ranges of a scale file for binary search.
+ *
+ * The bounds of all ranges split the number line into non-overlapping intervals: each bound itself and the open
+ * intervals between adjacent bounds. All values of such an interval are contained in the same ranges, so the label of
+ * the first matching range in file order is computed once per interval when the index is built.
+ *
+ * Bounds are compared as doubles first. As the conversion to double is monotonic, a difference is always correct and
+ * only equal doubles need to be compared as {@link BigDecimal}.
+ *
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+class RangeIndex {
+
+    private final BigDecimal[] bounds;
+    private final double[] doubleBounds;
+    /** Labels of the intervals, index 2i + 1 is bounds[i], index 2i is the interval below bounds[i] */
+    private final @Nullable String[] labels;
+
+    /**
+     * @param ranges the ranges and their labels in the order of evaluation
+     */
+    RangeIndex(List<Map.Entry<Range, String>> ranges) {
+        TreeSet<BigDecimal> sortedBounds = new TreeSet<>();
+        for (Map.Entry<Range, String> entry : ranges) {
+            Range range = entry.getKey();
+            if (range.min != null) {
+                sortedBounds.add(range.min);
+            }
+            if (range.max != null) {
+                sortedBounds.add(range.max);
+            }
+        }
+
+        bounds = sortedBounds.toArray(BigDecimal[]::new);
+        doubleBounds = new double[bounds.length];
+        for (int i = 0; i < bounds.length; i++) {
+            doubleBounds[i] = bounds[i].doubleValue();
+        }
+
+        labels = new String[2 * bounds.length + 1];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = findLabel(ranges, representative(i));
+        }
+    }
+
+    /**
+     * @return the label of the first range containing the value or <code>null</code> if no range matches
+     */
+    @Nullable
+    String get(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        int low = 0;
+        int high = bounds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(value, doubleValue, mid);
+            if (cmp < 0) {
+                high = mid - 1;
+            } else if (cmp > 0) {
+                low = mid + 1;
+            } else {
+                return labels[2 * mid + 1];
+            }
+        }
+        return labels[2 * low];
+    }
+
+    private int compare(BigDecimal value, double doubleValue, int bound) {
+        if (doubleValue < doubleBounds[bound]) {
+            return -1;
+        } else if (doubleValue > doubleBounds[bound]) {
+            return 1;
+        }
+        return value.compareTo(bounds[bound]);
+    }
+
+    /**
+     * @return a value within the interval with the given label index
+     */
+    private BigDecimal representative(int interval) {
+        if (bounds.length == 0) {
+            return BigDecimal.ZERO;
+        } else if (interval % 2 == 1) {
+            return bounds[interval / 2];
+        } else if (interval == 0) {
+            return bounds[0].subtract(BigDecimal.ONE);
+        } else if (interval == 2 * bounds.length) {
+            return bounds[bounds.length - 1].add(BigDecimal.ONE);
+        }
+        BigDecimal lower = bounds[interval / 2 - 1];
+        BigDecimal upper = bounds[interval / 2];
+        return lower.add(upper).divide(BigDecimal.valueOf(2));
+    }
+
+    private static @Nullable String findLabel(List<Map.Entry<Range, String>> ranges, BigDecimal value) {
+        for (Map.Entry<Range, String> entry : ranges) {
+            if (entry.getKey().contains(value)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author acfischer42 - Initial contribution
+ */
+@NonNullByDefault
+public class RangeIndexTest {
+
+    @Test
+    public void testFirstMatchingRangeWins() {
+        RangeIndex index = new RangeIndex(List.of(Map.entry(Range.lessThan(new BigDecimal(15)), "first"),
+                Map.entry(Range.closedOpen(new BigDecimal(10), new BigDecimal(17)), "second"),
+                Map.entry(Range.atLeast(new BigDecimal(15)), "last")));
+
+        assertEquals("first", index.get(new BigDecimal(-100)));
+        assertEquals("first", index.get(new BigDecimal(12)));
+        assertEquals("second", index.get(new BigDecimal(15)));
+        assertEquals("second", index.get(new BigDecimal("16.99")));
+        assertEquals("last", index.get(new BigDecimal(17)));
+        assertEquals("last", index.get(new BigDecimal("1E+400")));
+    }
+
+    @Test
+    public void testGapsAndBoundsBeyondDoublePrecision() {
+        BigDecimal bound = new BigDecimal("0.1000000000000000000001");
+        RangeIndex index = new RangeIndex(List.of(Map.entry(Range.open(BigDecimal.ZERO, bound), "low"),
+                Map.entry(Range.openClosed(bound, BigDecimal.ONE), "high")));
+
+        assertNull(index.get(BigDecimal.ZERO));
+        assertEquals("low", index.get(new BigDecimal("0.1")));
+        assertNull(index.get(bound));
+        assertEquals("high", index.get(new BigDecimal("0.1000000000000000000002")));
+        assertEquals("high", index.get(BigDecimal.ONE));
+        assertNull(index.get(new BigDecimal("1.00000000000000000001")));
+    }
+
+    @Test
+    public void testManyRanges() {
+        List<Map.Entry<Range, String>> ranges = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ranges.add(Map.entry(Range.closedOpen(BigDecimal.valueOf(i), BigDecimal.valueOf(i + 1)), "band" + i));
+        }
+        RangeIndex index = new RangeIndex(ranges);
+
+        for (int i = 0; i < 500; i++) {
+            assertEquals("band" + i, index.get(BigDecimal.valueOf(i)));
+            assertEquals("band" + i, index.get(new BigDecimal(i + ".5")));
+        }
+        assertNull(index.get(BigDecimal.valueOf(500)));
+    }
+}
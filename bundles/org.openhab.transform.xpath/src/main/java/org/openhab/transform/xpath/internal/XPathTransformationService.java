@@ -13,9 +13,14 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
@@ -35,14 +40,48 @@ import org.xml.sax.InputSource;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * Document builders, XPath instances and compiled expressions are not thread-safe, so they are kept in a pool of
+ * {@link Evaluator}s. Every evaluator is used by one thread at a time and caches the expressions it has compiled.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
+ * @author acfischer42 - Pool parsers and cache compiled expressions
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_POOLED_EVALUATORS = 8;
+    private static final int MAX_CACHED_EXPRESSIONS = 64;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final BlockingQueue<Evaluator> evaluators = new ArrayBlockingQueue<>(MAX_POOLED_EVALUATORS);
+    private final XPathFactory xpathFactory = XPathFactory.newInstance();
+    private final @Nullable DocumentBuilderFactory domFactory;
+
+    public XPathTransformationService() {
+        DocumentBuilderFactory domFactory = null;
+        try {
+            domFactory = createDocumentBuilderFactory();
+        } catch (ParserConfigurationException e) {
+            logger.warn("Failed to configure the XML parser, XPath transformations won't work: {}", e.getMessage());
+        }
+        this.domFactory = domFactory;
+    }
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() throws ParserConfigurationException {
+        DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+        // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
+        domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        domFactory.setXIncludeAware(false);
+        domFactory.setExpandEntityReferences(false);
+        domFactory.setNamespaceAware(true);
+        domFactory.setValidating(false);
+        return domFactory;
+    }
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,30 +90,12 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
-
+        Evaluator evaluator = evaluators.poll();
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
-            // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
-            domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            domFactory.setXIncludeAware(false);
-            domFactory.setExpandEntityReferences(false);
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
-
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
-
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            if (evaluator == null) {
+                evaluator = createEvaluator();
+            }
+            String transformationResult = evaluator.evaluate(xpathExpression, source);
 
             logger.debug("transformation resulted in '{}'", transformationResult);
 
@@ -82,9 +103,63 @@ public class XPathTransformationService implements TransformationService {
         } catch (Exception e) {
             throw new TransformationException("transformation throws exceptions", e);
         } finally {
-            if (stringReader != null) {
-                stringReader.close();
+            if (evaluator != null) {
+                evaluator.reset();
+                evaluators.offer(evaluator);
             }
         }
     }
+
+    private Evaluator createEvaluator() throws ParserConfigurationException {
+        DocumentBuilderFactory domFactory = this.domFactory;
+        if (domFactory == null) {
+            throw new ParserConfigurationException("XML parser is not available");
+        }
+        // the factories are not thread-safe
+        synchronized (this) {
+            return new Evaluator(domFactory.newDocumentBuilder(), xpathFactory.newXPath());
+        }
+    }
+
+    /**
+     * A document builder and XPath instance with its compiled expressions, used by one thread at a time.
+     */
+    private static class Evaluator {
+        private final DocumentBuilder builder;
+        private final XPath xpath;
+        private final Map<String, XPathExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, XPathExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        };
+
+        private Evaluator(DocumentBuilder builder, XPath xpath) {
+            this.builder = builder;
+            this.xpath = xpath;
+        }
+
+        private String evaluate(String xpathExpression, String source) throws Exception {
+            XPathExpression expression = expressions.get(xpathExpression);
+            if (expression == null) {
+                expression = xpath.compile(xpathExpression);
+                expressions.put(xpathExpression, expression);
+            }
+
+            try (StringReader stringReader = new StringReader(source)) {
+                InputSource inputSource = new InputSource(stringReader);
+                inputSource.setEncoding("UTF-8");
+
+                Document doc = builder.parse(inputSource);
+                return (String) expression.evaluate(doc, XPathConstants.STRING);
+            }
+        }
+
+        private void reset() {
+            builder.reset();
+            xpath.reset();
+        }
+    }
 }
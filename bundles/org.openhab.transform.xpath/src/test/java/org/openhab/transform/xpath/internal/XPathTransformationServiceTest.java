@@ -38,4 +38,15 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testPooledEvaluatorsAreReused() throws TransformationException {
+        assertThrows(TransformationException.class, () -> processor.transform("//[invalid", source));
+        assertThrows(TransformationException.class, () -> processor.transform("//temp_c/@data", "<no xml"));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+            assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+        }
+    }
 }
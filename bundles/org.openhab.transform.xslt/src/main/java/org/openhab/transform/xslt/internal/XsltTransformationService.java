@@ -15,9 +15,13 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -25,9 +29,13 @@ import javax.xml.transform.stream.StreamSource;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,14 +43,59 @@ import org.slf4j.LoggerFactory;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
  *
+ * Compiled stylesheets are cached and dropped as soon as a file in the transform folder changes.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
+ * @author acfischer42 - Cache compiled stylesheets
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=XSLT" })
-public class XsltTransformationService implements TransformationService {
+@Component(service = TransformationService.class, property = { "openhab.transform=XSLT" })
+public class XsltTransformationService implements TransformationService, WatchService.WatchEventListener {
+
+    private static final Path TRANSFORM_PATH = Path.of(TransformationService.TRANSFORM_FOLDER_NAME);
+    private static final int MAX_CACHED_TEMPLATES = 32;
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final WatchService watchService;
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final Map<String, Templates> cachedTemplates = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Templates> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+    private long cacheGeneration = 0;
+
+    @Activate
+    public XsltTransformationService(
+            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService) {
+        this.watchService = watchService;
+        watchService.registerListener(this, TRANSFORM_PATH, true);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        watchService.unregisterListener(this);
+        synchronized (cachedTemplates) {
+            cachedTemplates.clear();
+        }
+    }
+
+    @Override
+    public void processWatchEvent(WatchService.Kind kind, Path path) {
+        // stylesheets can include or import other files, so all compiled stylesheets are dropped
+        synchronized (cachedTemplates) {
+            cacheGeneration++;
+            if (!cachedTemplates.isEmpty()) {
+                logger.debug("'{}' changed, clearing {} compiled stylesheets", path, cachedTemplates.size());
+                cachedTemplates.clear();
+            }
+        }
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,29 +113,15 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
-
-        try {
-            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
-                    + File.separator + filename;
-            xsl = new StreamSource(new File(path));
-        } catch (Exception e) {
-            String message = "opening file '" + filename + "' throws exception";
-
-            logger.error("{}", message, e);
-            throw new TransformationException(message, e);
-        }
-
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, filename);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
-            transformer.transform(new StreamSource(xml), new StreamResult(out));
+            getTemplates(filename).newTransformer().transform(new StreamSource(xml), new StreamResult(out));
+        } catch (TransformationException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
@@ -92,4 +131,40 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    private Templates getTemplates(String filename) throws TransformationException, TransformerConfigurationException {
+        long generation;
+        synchronized (cachedTemplates) {
+            Templates templates = cachedTemplates.get(filename);
+            if (templates != null) {
+                return templates;
+            }
+            generation = cacheGeneration;
+        }
+
+        Source xsl;
+        try {
+            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
+                    + File.separator + filename;
+            xsl = new StreamSource(new File(path));
+        } catch (Exception e) {
+            String message = "opening file '" + filename + "' throws exception";
+
+            logger.error("{}", message, e);
+            throw new TransformationException(message, e);
+        }
+
+        Templates templates;
+        // the factory is not thread-safe, the compiled templates are
+        synchronized (transformerFactory) {
+            templates = transformerFactory.newTemplates(xsl);
+        }
+        synchronized (cachedTemplates) {
+            // don't cache a stylesheet that changed while it was compiled
+            if (generation == cacheGeneration) {
+                cachedTemplates.put(filename, templates);
+            }
+        }
+        return templates;
+    }
 }
@@ -13,6 +13,7 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -23,6 +24,7 @@ import java.nio.file.StandardCopyOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -40,7 +42,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(mock(WatchService.class));
     }
 
     @Test
@@ -54,4 +56,29 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testChangedStylesheetIsReloadedAfterWatchEvent() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("cached.xsl");
+        Files.writeString(stylesheet, stylesheet("temp_c"));
+        assertEquals("8", processor.transform("http/cached.xsl", source));
+
+        Files.writeString(stylesheet, stylesheet("temp_f"));
+        assertEquals("8", processor.transform("http/cached.xsl", source));
+
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "cached.xsl"));
+        assertEquals("46", processor.transform("http/cached.xsl", source));
+    }
+
+    private static String stylesheet(String element) {
+        return """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:output method="text" encoding="UTF-8" />
+                    <xsl:template match="/">
+                        <xsl:value-of select="//current_conditions/%s/@data" />
+                    </xsl:template>
+                </xsl:stylesheet>
+                """.formatted(element);
+    }
 }
@@ -659,6 +659,132 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         assertSingleStateUpdate(dataHandler, CHANNEL_STRING, is(equalTo(new StringType("ON"))));
     }
 
+    private ModbusDataThingHandler createRegisterReadHandler(String start, String transform, ValueType valueType,
+            long updateUnchangedValuesEveryMillis) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+
+        // Minimally mocked request
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", start);
+        dataConfig.put("readTransform", transform);
+        dataConfig.put("readValueType", valueType.getConfigValue());
+        dataConfig.put("updateUnchangedValuesEveryMillis", updateUnchangedValuesEveryMillis);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
+    private void readRegisters(ModbusDataThingHandler dataHandler, byte... bytes) {
+        dataHandler.onReadResult(new AsyncModbusReadResult(Mockito.mock(ModbusReadRequestBlueprint.class),
+                new ModbusRegisterArray(bytes)));
+    }
+
+    private List<State> getStateUpdates(ModbusDataThingHandler handler, String channel) {
+        List<State> updates = getStateUpdates(getItemName(new ChannelUID(handler.getThing().getUID(), channel)));
+        return updates == null ? List.of() : updates;
+    }
+
+    private void waitForReadSuccessUpdates(ModbusDataThingHandler handler, int count) {
+        waitForAssert(() -> assertEquals(count, getStateUpdates(handler, CHANNEL_LAST_READ_SUCCESS).size()));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDataIsNotDecodedAgain() {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("0", "default",
+                ModbusConstants.ValueType.INT16, 1000);
+
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+
+        assertEquals(1, dataHandler.getDecodedReadCount());
+        assertEquals(1, dataHandler.getSkippedReadCount());
+        // last read success is updated with every read, the unchanged number only once
+        waitForReadSuccessUpdates(dataHandler, 2);
+        assertEquals(List.of(new DecimalType(5)), getStateUpdates(dataHandler, CHANNEL_NUMBER));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDataIsUpdatedAfterUpdateUnchangedValuesEveryMillis()
+            throws InterruptedException {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("0", "default",
+                ModbusConstants.ValueType.INT16, 100);
+
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+        waitForReadSuccessUpdates(dataHandler, 2);
+        assertEquals(List.of(new DecimalType(5)), getStateUpdates(dataHandler, CHANNEL_NUMBER));
+
+        Thread.sleep(200);
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+
+        assertEquals(1, dataHandler.getDecodedReadCount());
+        assertEquals(2, dataHandler.getSkippedReadCount());
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(5)),
+                getStateUpdates(dataHandler, CHANNEL_NUMBER)));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDataIsDecodedAgainWithReadTransform() {
+        mockTransformation("MULTIPLY", new MultiplyTransformation());
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("0", "MULTIPLY(10)",
+                ModbusConstants.ValueType.INT16, 1000);
+
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+
+        // the output of a transformation might change although its input has not
+        assertEquals(2, dataHandler.getDecodedReadCount());
+        assertEquals(0, dataHandler.getSkippedReadCount());
+        waitForReadSuccessUpdates(dataHandler, 2);
+        assertEquals(List.of(new DecimalType(50)), getStateUpdates(dataHandler, CHANNEL_NUMBER));
+    }
+
+    @Test
+    public void testOnRegistersChannelLinkedDecodesUnchangedDataAgain() {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("0", "default",
+                ModbusConstants.ValueType.INT16, 1000);
+
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+        dataHandler.channelLinked(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        readRegisters(dataHandler, (byte) 0x00, (byte) 0x05);
+
+        assertEquals(2, dataHandler.getDecodedReadCount());
+        assertEquals(0, dataHandler.getSkippedReadCount());
+    }
+
+    @Test
+    public void testOnRegistersInt8OtherHalfOfRegisterChanges() {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("0.0", "default",
+                ModbusConstants.ValueType.INT8, 1000);
+
+        readRegisters(dataHandler, (byte) 0x01, (byte) 0x05);
+        // only the high byte, which is not read by the thing, changes
+        readRegisters(dataHandler, (byte) 0x02, (byte) 0x05);
+
+        assertEquals(2, dataHandler.getDecodedReadCount());
+        assertEquals(0, dataHandler.getSkippedReadCount());
+        waitForReadSuccessUpdates(dataHandler, 2);
+        assertEquals(List.of(new DecimalType(5)), getStateUpdates(dataHandler, CHANNEL_NUMBER));
+
+        readRegisters(dataHandler, (byte) 0x02, (byte) 0x07);
+
+        assertEquals(3, dataHandler.getDecodedReadCount());
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(7)),
+                getStateUpdates(dataHandler, CHANNEL_NUMBER)));
+    }
+
     @Test
     public void testWriteWithDataAsChildOfEndpoint() throws InvalidSyntaxException {
         captureModbusWrites();